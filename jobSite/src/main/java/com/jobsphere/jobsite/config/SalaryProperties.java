@@ -0,0 +1,27 @@
+package com.jobsphere.jobsite.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local exchange-rate and pay-period table used to normalize job salaries into an
+ * annual amount in the base currency.
+ */
+@Component
+@ConfigurationProperties(prefix = "jobsphere.salary")
+@Getter
+@Setter
+public class SalaryProperties {
+    private String baseCurrency = "ETB";
+    // Pay period assumed when a job has no compensation type
+    private String defaultPayPeriod = "MONTHLY";
+    // Value of one unit of each currency in the base currency
+    private Map<String, BigDecimal> exchangeRates = new HashMap<>();
+    private Map<String, BigDecimal> periodsPerYear = new HashMap<>();
+}
@@ -6,6 +6,7 @@ public final class JobConstants {
 
     public static final int TITLE_MAX_LENGTH = 500;
     public static final int DESCRIPTION_MAX_LENGTH = 10000;
+    public static final int DESCRIPTION_SNIPPET_MAX_LENGTH = 200;
     public static final int JOB_TYPE_MAX_LENGTH = 100;
     public static final int WORKPLACE_TYPE_MAX_LENGTH = 100;
     public static final int CATEGORY_MAX_LENGTH = 255;
@@ -9,6 +9,9 @@ import com.jobsphere.jobsite.service.shared.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,6 +39,12 @@ public class JobAlertController {
         return ResponseEntity.ok(jobAlertService.getMyAlerts());
     }
 
+    @GetMapping("/{alertId}")
+    @Operation(summary = "Get a job alert, including the progress of its match backfill")
+    public ResponseEntity<JobAlertResponse> getAlert(@PathVariable UUID alertId) {
+        return ResponseEntity.ok(jobAlertService.getAlert(alertId));
+    }
+
     @DeleteMapping("/{alertId}")
     @Operation(summary = "Delete a job alert")
     public ResponseEntity<Void> deleteAlert(@PathVariable UUID alertId) {
@@ -49,6 +58,13 @@ public class JobAlertController {
         return ResponseEntity.ok(jobAlertService.toggleAlert(alertId));
     }
 
+    @PatchMapping("/{alertId}/delivery-mode")
+    @Operation(summary = "Set how job alert matches are delivered (INSTANT, HOURLY or DAILY digest)")
+    public ResponseEntity<JobAlertResponse> updateDeliveryMode(@PathVariable UUID alertId,
+            @RequestParam String deliveryMode) {
+        return ResponseEntity.ok(jobAlertService.updateDeliveryMode(alertId, deliveryMode));
+    }
+
     @PostMapping("/sync-profile")
     @Operation(summary = "Sync job alerts with seeker profile (Auto-generate if none exist)")
     public ResponseEntity<Void> syncProfile() {
@@ -58,8 +74,8 @@ public class JobAlertController {
 
     @GetMapping("/matched")
     @Operation(summary = "Get jobs matching my alerts")
-    public ResponseEntity<List<JobResponse>> getMatchedJobs() {
+    public ResponseEntity<Slice<JobResponse>> getMatchedJobs(@PageableDefault(size = 20) Pageable pageable) {
         UUID userId = authenticationService.getCurrentUserId();
-        return ResponseEntity.ok(jobMatchingService.getMatchedJobsForSeeker(userId));
+        return ResponseEntity.ok(jobMatchingService.getMatchedJobsForSeeker(userId, pageable));
     }
 }
@@ -1,11 +1,16 @@
 package com.jobsphere.jobsite.controller.job;
 
 import com.jobsphere.jobsite.dto.job.JobCreateRequest;
+import com.jobsphere.jobsite.dto.job.JobFacetsResponse;
 import com.jobsphere.jobsite.dto.job.JobResponse;
+import com.jobsphere.jobsite.dto.job.JobSuggestionResponse;
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
 import com.jobsphere.jobsite.dto.job.JobUpdateRequest;
 import com.jobsphere.jobsite.dto.seeker.FullProfileResponse;
+import com.jobsphere.jobsite.dto.shared.CursorPageResponse;
 import com.jobsphere.jobsite.service.job.JobMatchingService;
 import com.jobsphere.jobsite.service.job.JobService;
+import com.jobsphere.jobsite.service.shared.AuthenticationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +19,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,6 +30,7 @@ import java.util.UUID;
 public class JobController {
     private final JobService jobService;
     private final JobMatchingService jobMatchingService;
+    private final AuthenticationService authenticationService;
 
     @PostMapping
     public ResponseEntity<JobResponse> createJob(@Valid @RequestBody JobCreateRequest request) {
@@ -33,15 +40,76 @@ public class JobController {
 
     @GetMapping
     public ResponseEntity<Page<JobResponse>> listJobs(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String jobType,
             @RequestParam(required = false) String workplaceType,
             @RequestParam(required = false) String city,
+            @RequestParam(required = false) BigDecimal minSalary,
+            @RequestParam(required = false) BigDecimal maxSalary,
+            @RequestParam(required = false) String salarySort,
+            @RequestParam(defaultValue = "false") boolean facets,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<JobResponse> response = jobService.listJobs(category, jobType, workplaceType, city, pageable);
+        Page<JobResponse> response = jobService.listJobs(q, category, jobType, workplaceType, city, minSalary,
+                maxSalary, salarySort, facets, pageable);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<Page<JobSummaryResponse>> listJobSummaries(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String workplaceType,
+            @RequestParam(required = false) String city,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<JobSummaryResponse> response = jobService.listJobSummaries(category, jobType, workplaceType, city,
+                pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<JobSuggestionResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(jobService.suggest(q, limit));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsResponse> getJobFacets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String workplaceType,
+            @RequestParam(required = false) String city) {
+        return ResponseEntity.ok(jobService.getJobFacets(category, jobType, workplaceType, city));
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<JobResponse>> getJobFeed(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String workplaceType,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<JobResponse> response = jobService.getJobFeed(category, jobType, workplaceType, city,
+                cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/recommended")
+    public ResponseEntity<Page<JobResponse>> getRecommendedJobs(
+            @PageableDefault(size = 20) Pageable pageable) {
+        UUID userId = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(jobMatchingService.getRecommendedJobsForSeeker(userId, pageable));
+    }
+
+    @GetMapping("/similar")
+    public ResponseEntity<List<JobResponse>> getSimilarJobs(
+            @RequestParam(defaultValue = "15") int limit) {
+        UUID userId = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(jobMatchingService.getSimilarJobsForSeeker(userId, limit));
+    }
+
     @GetMapping("/my-jobs")
     public ResponseEntity<Page<JobResponse>> getMyJobs(
             @PageableDefault(size = 20) Pageable pageable) {
@@ -49,6 +117,13 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/my-jobs/summary")
+    public ResponseEntity<Page<JobSummaryResponse>> getMyJobSummaries(
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<JobSummaryResponse> response = jobService.getEmployerJobSummaries(pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{jobId}")
     public ResponseEntity<JobResponse> getJob(@PathVariable UUID jobId) {
         JobResponse response = jobService.getJob(jobId);
@@ -78,7 +153,17 @@ public class JobController {
     }
 
     @GetMapping("/{jobId}/recommended-candidates")
-    public ResponseEntity<List<FullProfileResponse>> getRecommendedCandidates(@PathVariable UUID jobId) {
-        return ResponseEntity.of(java.util.Optional.ofNullable(jobMatchingService.getRecommendedCandidates(jobId)));
+    public ResponseEntity<List<FullProfileResponse>> getRecommendedCandidates(
+            @PathVariable UUID jobId,
+            @RequestParam(required = false) Integer ef) {
+        return ResponseEntity.of(
+                java.util.Optional.ofNullable(jobMatchingService.getRecommendedCandidates(jobId, ef)));
+    }
+
+    @GetMapping("/{jobId}/similar-candidates")
+    public ResponseEntity<List<FullProfileResponse>> getSimilarCandidates(
+            @PathVariable UUID jobId,
+            @RequestParam(defaultValue = "15") int limit) {
+        return ResponseEntity.ok(jobMatchingService.getSimilarCandidates(jobId, limit));
     }
 }
@@ -1,6 +1,7 @@
 package com.jobsphere.jobsite.controller.job;
 
 import com.jobsphere.jobsite.dto.job.JobResponse;
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
 import com.jobsphere.jobsite.service.job.SavedJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -36,4 +37,10 @@ public class SavedJobController {
             @PageableDefault(size = 20) Pageable pageable) {
         return ResponseEntity.ok(savedJobService.getSavedJobsAsResponses(pageable));
     }
+
+    @GetMapping("/summary")
+    public ResponseEntity<Page<JobSummaryResponse>> getSavedJobSummaries(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(savedJobService.getSavedJobSummaries(pageable));
+    }
 }
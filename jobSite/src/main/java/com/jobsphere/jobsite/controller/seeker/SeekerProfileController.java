@@ -6,9 +6,12 @@ import com.jobsphere.jobsite.dto.shared.AddressDto;
 import com.jobsphere.jobsite.service.seeker.SeekerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -61,9 +64,19 @@ public class SeekerProfileController {
         return ResponseEntity.ok(seekerService.deleteAddress());
     }
 
+    // Revalidated on every view: an unchanged profile costs one version lookup and returns 304
     @GetMapping("/{seekerId}")
     public ResponseEntity<com.jobsphere.jobsite.dto.seeker.FullProfileResponse> getFullProfile(
-            @PathVariable UUID seekerId) {
-        return ResponseEntity.ok(seekerService.getFullProfileById(seekerId));
+            @PathVariable UUID seekerId, WebRequest request) {
+        long version = seekerService.getProfileVersion(seekerId);
+        String eTag = "\"" + version + "\"";
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(seekerService.getFullProfile(seekerId, version));
     }
 }
\ No newline at end of file
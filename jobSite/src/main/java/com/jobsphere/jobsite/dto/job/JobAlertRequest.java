@@ -6,5 +6,6 @@ public record JobAlertRequest(
         String keywords,
         String category,
         String jobType,
-        String preferredLocation) {
+        String preferredLocation,
+        String deliveryMode) {
 }
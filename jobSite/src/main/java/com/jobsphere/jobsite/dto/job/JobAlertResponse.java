@@ -11,5 +11,8 @@ public record JobAlertResponse(
         String jobType,
         String preferredLocation,
         Boolean isActive,
+        String deliveryMode,
+        String backfillStatus,
+        Integer backfillMatchCount,
         Instant createdAt) {
 }
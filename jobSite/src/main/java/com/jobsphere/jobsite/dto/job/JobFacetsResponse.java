@@ -0,0 +1,12 @@
+package com.jobsphere.jobsite.dto.job;
+
+import java.util.Map;
+
+public record JobFacetsResponse(
+        int total,
+        Map<String, Integer> categories,
+        Map<String, Integer> jobTypes,
+        Map<String, Integer> workplaceTypes,
+        Map<String, Integer> cities,
+        Map<String, Integer> regions) {
+}
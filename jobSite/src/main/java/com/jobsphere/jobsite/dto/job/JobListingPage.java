@@ -0,0 +1,23 @@
+package com.jobsphere.jobsite.dto.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A page of the job listing, carrying facet counts for the same filters when the
+ * caller asked for them; without them it serializes exactly like a plain page.
+ */
+public class JobListingPage extends PageImpl<JobResponse> {
+    private final transient JobFacetsResponse facets;
+
+    public JobListingPage(Page<JobResponse> page, JobFacetsResponse facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public JobFacetsResponse getFacets() {
+        return facets;
+    }
+}
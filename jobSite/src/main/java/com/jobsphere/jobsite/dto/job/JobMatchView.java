@@ -0,0 +1,26 @@
+package com.jobsphere.jobsite.dto.job;
+
+import com.jobsphere.jobsite.model.job.Job;
+
+import java.util.UUID;
+
+public record JobMatchView(
+        UUID id,
+        String title,
+        String description,
+        String category,
+        String jobType,
+        String city,
+        String region) {
+
+    public static JobMatchView from(Job job) {
+        return new JobMatchView(
+                job.getId(),
+                job.getTitle(),
+                job.getDescription(),
+                job.getCategory(),
+                job.getJobType(),
+                job.getAddress() != null ? job.getAddress().getCity() : null,
+                job.getAddress() != null ? job.getAddress().getRegion() : null);
+    }
+}
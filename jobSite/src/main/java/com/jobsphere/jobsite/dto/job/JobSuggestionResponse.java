@@ -0,0 +1,7 @@
+package com.jobsphere.jobsite.dto.job;
+
+public record JobSuggestionResponse(
+        String text,
+        String type,
+        int weight) {
+}
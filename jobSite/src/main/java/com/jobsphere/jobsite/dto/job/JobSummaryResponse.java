@@ -0,0 +1,29 @@
+package com.jobsphere.jobsite.dto.job;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record JobSummaryResponse(
+        UUID id,
+        UUID companyProfileId,
+        String companyName,
+        String companyLogoUrl,
+        String addressRegion,
+        String addressCity,
+        String title,
+        String descriptionSnippet,
+        String jobType,
+        String workplaceType,
+        String category,
+        String experienceLevel,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax,
+        String compensationType,
+        String currency,
+        LocalDate deadline,
+        String status,
+        Long applicantCount,
+        Instant createdAt) {
+}
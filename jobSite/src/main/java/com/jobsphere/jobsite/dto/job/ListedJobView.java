@@ -0,0 +1,17 @@
+package com.jobsphere.jobsite.dto.job;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ListedJobView(
+        UUID id,
+        String title,
+        UUID companyProfileId,
+        String companyName,
+        String category,
+        String jobType,
+        String workplaceType,
+        String city,
+        String region,
+        Instant createdAt) {
+}
@@ -0,0 +1,10 @@
+package com.jobsphere.jobsite.dto.shared;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size) {
+}
@@ -1,7 +1,9 @@
 package com.jobsphere.jobsite.model.job;
 
+import com.jobsphere.jobsite.constant.JobConstants;
 import com.jobsphere.jobsite.model.employer.CompanyProfile;
 import com.jobsphere.jobsite.model.shared.Address;
+import com.jobsphere.jobsite.utils.TextUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -40,6 +42,9 @@ public class Job {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "description_snippet", columnDefinition = "TEXT")
+    private String descriptionSnippet;
+
     @Column(name = "job_type", nullable = false, columnDefinition = "TEXT")
     private String jobType;
 
@@ -70,6 +75,17 @@ public class Job {
     @Column(name = "salary_max", precision = 15, scale = 2)
     private BigDecimal salaryMax;
 
+    // Annual amounts in the base currency, maintained by SalaryNormalizer
+    @Column(name = "salary_min_annual", precision = 15, scale = 2)
+    private BigDecimal salaryMinAnnual;
+
+    @Column(name = "salary_max_annual", precision = 15, scale = 2)
+    private BigDecimal salaryMaxAnnual;
+
+    // SalaryNormalizer rates version the annual amounts were computed with
+    @Column(name = "salary_rates_version", length = 32)
+    private String salaryRatesVersion;
+
     @Column(name = "compensation_type", columnDefinition = "TEXT")
     private String compensationType;
 
@@ -98,4 +114,10 @@ public class Job {
     @LastModifiedDate
     @Column(name = "updated_at")
     private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void refreshDescriptionSnippet() {
+        descriptionSnippet = TextUtils.snippet(description, JobConstants.DESCRIPTION_SNIPPET_MAX_LENGTH);
+    }
 }
@@ -0,0 +1,36 @@
+package com.jobsphere.jobsite.model.job;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job_candidate_matches")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCandidateMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "seeker_id", nullable = false)
+    private UUID seekerId;
+
+    @Column(name = "score", nullable = false)
+    private Integer score;
+
+    @CreatedDate
+    @Column(name = "computed_at", nullable = false, updatable = false)
+    private Instant computedAt;
+}
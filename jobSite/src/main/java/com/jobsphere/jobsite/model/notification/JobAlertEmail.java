@@ -0,0 +1,59 @@
+package com.jobsphere.jobsite.model.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job_alert_emails")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobAlertEmail {
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final int SUBJECT_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "to_email", nullable = false)
+    private String toEmail;
+
+    @Column(nullable = false, length = SUBJECT_MAX_LENGTH)
+    private String subject;
+
+    @Column(name = "html_content", nullable = false, columnDefinition = "TEXT")
+    private String htmlContent;
+
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    @Builder.Default
+    private Instant availableAt = Instant.now();
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+}
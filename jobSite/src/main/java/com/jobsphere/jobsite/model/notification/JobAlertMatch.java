@@ -0,0 +1,36 @@
+package com.jobsphere.jobsite.model.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "job_alert_matches")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobAlertMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "seeker_id", nullable = false)
+    private UUID seekerId;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "job_created_at", nullable = false)
+    private Instant jobCreatedAt;
+
+    @CreatedDate
+    @Column(name = "matched_at", nullable = false, updatable = false)
+    private Instant matchedAt;
+}
@@ -17,6 +17,14 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobAlert {
+    public static final String DELIVERY_INSTANT = "INSTANT";
+    public static final String DELIVERY_HOURLY = "HOURLY";
+    public static final String DELIVERY_DAILY = "DAILY";
+
+    public static final String BACKFILL_PENDING = "PENDING";
+    public static final String BACKFILL_DONE = "DONE";
+    public static final String BACKFILL_FAILED = "FAILED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -41,6 +49,20 @@ public class JobAlert {
     @Builder.Default
     private Boolean isActive = true;
 
+    @Column(name = "delivery_mode", nullable = false, length = 10)
+    @Builder.Default
+    private String deliveryMode = DELIVERY_INSTANT;
+
+    @Column(name = "backfill_status", nullable = false, length = 10)
+    @Builder.Default
+    private String backfillStatus = BACKFILL_PENDING;
+
+    @Column(name = "backfill_match_count")
+    private Integer backfillMatchCount;
+
+    @Column(name = "backfill_completed_at")
+    private Instant backfillCompletedAt;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -45,4 +45,8 @@ public class Seeker {
 
     @Column(name = "cv_url", length = 500)
     private String cvUrl;
+
+    // Maintained by SeekerRepository.bumpProfileVersion, never written from the entity
+    @Column(name = "profile_version", insertable = false, updatable = false)
+    private Long profileVersion;
 }
\ No newline at end of file
@@ -27,4 +27,12 @@ public class Address {
     private String street;
     @Column(name = "created_at")
     private Instant createdAt;
+
+    // Generated by the database from country/region/city, see location_key()
+    @Column(name = "country_key", insertable = false, updatable = false)
+    private String countryKey;
+    @Column(name = "region_key", insertable = false, updatable = false)
+    private String regionKey;
+    @Column(name = "city_key", insertable = false, updatable = false)
+    private String cityKey;
 }
\ No newline at end of file
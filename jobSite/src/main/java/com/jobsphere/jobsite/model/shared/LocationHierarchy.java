@@ -0,0 +1,35 @@
+package com.jobsphere.jobsite.model.shared;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+// Known country/region/city key combinations, maintained by a trigger on addresses; '' marks a missing level
+@Entity
+@Immutable
+@Table(name = "location_hierarchy")
+@IdClass(LocationHierarchy.Key.class)
+@Getter
+@NoArgsConstructor
+public class LocationHierarchy {
+    @Id
+    @Column(name = "country_key", nullable = false)
+    private String countryKey;
+    @Id
+    @Column(name = "region_key", nullable = false)
+    private String regionKey;
+    @Id
+    @Column(name = "city_key", nullable = false)
+    private String cityKey;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String countryKey;
+        private String regionKey;
+        private String cityKey;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +36,16 @@ public interface ApplicationRepository extends JpaRepository<Application, UUID>
 
     long countByJobId(UUID jobId);
 
+    interface JobApplicantCount {
+        UUID getJobId();
+
+        long getApplicantCount();
+    }
+
+    @Query("SELECT a.job.id AS jobId, COUNT(a) AS applicantCount FROM Application a " +
+            "WHERE a.job.id IN :jobIds GROUP BY a.job.id")
+    List<JobApplicantCount> countByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+
     long countByJobIdAndHiredFlagTrue(UUID jobId);
 
     @Modifying
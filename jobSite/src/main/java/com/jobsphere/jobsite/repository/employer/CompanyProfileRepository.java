@@ -2,8 +2,10 @@ package com.jobsphere.jobsite.repository.employer;
 
 import com.jobsphere.jobsite.model.employer.CompanyProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,6 +13,9 @@ import java.util.UUID;
 public interface CompanyProfileRepository extends JpaRepository<CompanyProfile, UUID> {
     Optional<CompanyProfile> findByUserId(UUID userId);
     boolean existsByUserId(UUID userId);
+
+    @Query("SELECT cp.companyName FROM CompanyProfile cp WHERE cp.companyName IS NOT NULL")
+    List<String> findAllCompanyNames();
 }
 
 
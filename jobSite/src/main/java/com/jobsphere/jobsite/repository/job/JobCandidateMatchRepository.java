@@ -0,0 +1,51 @@
+package com.jobsphere.jobsite.repository.job;
+
+import com.jobsphere.jobsite.model.job.JobCandidateMatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobCandidateMatchRepository extends JpaRepository<JobCandidateMatch, UUID> {
+
+    @Query("SELECT m.seekerId FROM JobCandidateMatch m WHERE m.jobId = :jobId ORDER BY m.score DESC, m.seekerId")
+    List<UUID> findTopSeekerIds(@Param("jobId") UUID jobId, Pageable pageable);
+
+    List<JobCandidateMatch> findBySeekerId(UUID seekerId);
+
+    // Listed jobs whose candidates were never computed, served by idx_jobs_candidates_unscored
+    @Query(value = "SELECT j.id FROM jobs j WHERE j.is_active = true AND j.status IN ('OPEN', 'HIRED') " +
+            "AND j.candidates_scored_at IS NULL AND j.id > :after ORDER BY j.id LIMIT :limit", nativeQuery = true)
+    List<UUID> findUnscoredListedJobIdsAfter(@Param("after") UUID after, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE jobs SET candidates_scored_at = now() WHERE id = :jobId", nativeQuery = true)
+    int markCandidatesScored(@Param("jobId") UUID jobId);
+
+    // Background rescoring of a job and of a seeker can race on the same pair, so the last score wins
+    @Modifying
+    @Query(value = "INSERT INTO job_candidate_matches (job_id, seeker_id, score, computed_at) " +
+            "VALUES (:jobId, :seekerId, :score, now()) " +
+            "ON CONFLICT (job_id, seeker_id) DO UPDATE SET score = EXCLUDED.score, computed_at = EXCLUDED.computed_at",
+            nativeQuery = true)
+    int upsert(@Param("jobId") UUID jobId, @Param("seekerId") UUID seekerId, @Param("score") int score);
+
+    @Modifying
+    @Query("DELETE FROM JobCandidateMatch m WHERE m.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") UUID jobId);
+
+    // Keeps the best :limit candidates of each job, with the same tie-break as findTopSeekerIds
+    @Modifying
+    @Query(value = "DELETE FROM job_candidate_matches WHERE id IN (SELECT ranked.id FROM (" +
+            "SELECT m.id, row_number() OVER (PARTITION BY m.job_id ORDER BY m.score DESC, m.seeker_id) AS rank " +
+            "FROM job_candidate_matches m WHERE m.job_id IN (:jobIds)) ranked WHERE ranked.rank > :limit)",
+            nativeQuery = true)
+    int trimToTop(@Param("jobIds") Collection<UUID> jobIds, @Param("limit") int limit);
+}
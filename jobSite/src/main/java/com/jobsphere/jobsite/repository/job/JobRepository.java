@@ -1,40 +1,291 @@
 package com.jobsphere.jobsite.repository.job;
 
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
+import com.jobsphere.jobsite.dto.job.ListedJobView;
 import com.jobsphere.jobsite.model.job.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, UUID> {
 
+        // Card fields only: the TEXT description columns are never read for list views
+        String JOB_SUMMARY_SELECT = "SELECT new com.jobsphere.jobsite.dto.job.JobSummaryResponse(" +
+                        "j.id, cp.id, cp.companyName, cp.logoUrl, a.region, a.city, j.title, j.descriptionSnippet, " +
+                        "j.jobType, j.workplaceType, j.category, j.experienceLevel, j.salaryMin, j.salaryMax, " +
+                        "j.compensationType, j.currency, j.deadline, j.status, " +
+                        "(SELECT COUNT(ap) FROM Application ap WHERE ap.job = j), j.createdAt) ";
+
+        // A listed job is publicly visible and eligible for alert matches; JobChangedEvent.listed mirrors this
+        String LISTED_JOB = "j.isActive = true AND j.status IN ('OPEN', 'HIRED') ";
+        String LISTED_JOB_ROW = "j.is_active = true AND j.status IN ('OPEN', 'HIRED') ";
+
+        // Location filters take a canonical key (TextUtils.normalizeKey) matching the city or the region.
+        // An address without a region matches when its (country, city) keys are among those recorded under
+        // that region in location_hierarchy; JobService resolves them up front so every branch stays on an
+        // address key index. The key lists are never empty: '' stands in for "none" as no key is ever blank
+        String JOB_FEED_FILTERS = "AND (:category IS NULL OR :category = '' OR j.category = :category) " +
+                        "AND (:jobType IS NULL OR :jobType = '' OR j.jobType = :jobType) " +
+                        "AND (:workplaceType IS NULL OR :workplaceType = '' OR j.workplaceType = :workplaceType) " +
+                        "AND (:locationKey IS NULL OR a.cityKey = :locationKey OR a.regionKey = :locationKey " +
+                        "OR (a.regionKey IS NULL AND a.countryKey IN :regionCountryKeys " +
+                        "AND a.cityKey IN :regionCityKeys)) ";
+
+        // Range overlap on the normalized annual salary (base currency)
+        String JOB_SALARY_FILTERS = "AND (:minSalary IS NULL OR j.salaryMaxAnnual >= :minSalary) " +
+                        "AND (:maxSalary IS NULL OR j.salaryMinAnnual <= :maxSalary) ";
+
+        String JOB_SEARCH_FILTERS = "AND (CAST(:category AS text) IS NULL OR CAST(:category AS text) = '' OR j.category = CAST(:category AS text)) " +
+                        "AND (CAST(:jobType AS text) IS NULL OR CAST(:jobType AS text) = '' OR j.job_type = CAST(:jobType AS text)) " +
+                        "AND (CAST(:workplaceType AS text) IS NULL OR CAST(:workplaceType AS text) = '' OR j.workplace_type = CAST(:workplaceType AS text)) " +
+                        "AND (CAST(:locationKey AS text) IS NULL OR a.city_key = CAST(:locationKey AS text) " +
+                        "OR a.region_key = CAST(:locationKey AS text) " +
+                        "OR (a.region_key IS NULL AND a.country_key IN (:regionCountryKeys) " +
+                        "AND a.city_key IN (:regionCityKeys))) " +
+                        "AND (CAST(:minSalary AS numeric) IS NULL OR j.salary_max_annual >= CAST(:minSalary AS numeric)) " +
+                        "AND (CAST(:maxSalary AS numeric) IS NULL OR j.salary_min_annual <= CAST(:maxSalary AS numeric)) ";
+
         List<Job> findByCompanyProfileIdAndIsActiveTrue(UUID companyProfileId);
 
+        @EntityGraph(attributePaths = { "companyProfile", "address" })
         Page<Job> findByCompanyProfileId(UUID companyProfileId, Pageable pageable);
 
         Page<Job> findByIsActiveTrue(Pageable pageable);
 
         List<Job> findByIsActiveTrue();
 
-        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN j.address a WHERE j.isActive = true " +
-                        "AND j.status IN ('OPEN', 'HIRED') " +
-                        "AND (:category IS NULL OR :category = '' OR j.category = :category) " +
-                        "AND (:jobType IS NULL OR :jobType = '' OR j.jobType = :jobType) " +
-                        "AND (:workplaceType IS NULL OR :workplaceType = '' OR j.workplaceType = :workplaceType) " +
-                        "AND (:location IS NULL OR :location = '' OR UPPER(a.city) = UPPER(:location) OR UPPER(a.region) = UPPER(:location))")
+        @Query(value = "SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS,
+                        countQuery = "SELECT COUNT(j) FROM Job j LEFT JOIN j.address a WHERE j.isActive = true " +
+                                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS)
         Page<Job> findActiveJobsWithFilters(
                         @Param("category") String category,
                         @Param("jobType") String jobType,
                         @Param("workplaceType") String workplaceType,
-                        @Param("location") String location,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        @Param("minSalary") BigDecimal minSalary,
+                        @Param("maxSalary") BigDecimal maxSalary,
+                        Pageable pageable);
+
+        // Same filters, ordered by normalized annual salary; jobs without a salary go last
+        @Query(value = "SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS +
+                        "ORDER BY j.salaryMaxAnnual DESC NULLS LAST, j.createdAt DESC, j.id DESC",
+                        countQuery = "SELECT COUNT(j) FROM Job j LEFT JOIN j.address a WHERE j.isActive = true " +
+                                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS)
+        Page<Job> findActiveJobsOrderBySalaryDesc(
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        @Param("minSalary") BigDecimal minSalary,
+                        @Param("maxSalary") BigDecimal maxSalary,
+                        Pageable pageable);
+
+        @Query(value = "SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS +
+                        "ORDER BY j.salaryMinAnnual ASC NULLS LAST, j.createdAt DESC, j.id DESC",
+                        countQuery = "SELECT COUNT(j) FROM Job j LEFT JOIN j.address a WHERE j.isActive = true " +
+                                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS + JOB_SALARY_FILTERS)
+        Page<Job> findActiveJobsOrderBySalaryAsc(
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        @Param("minSalary") BigDecimal minSalary,
+                        @Param("maxSalary") BigDecimal maxSalary,
+                        Pageable pageable);
+
+        @Query(value = JOB_SUMMARY_SELECT +
+                        "FROM Job j JOIN j.companyProfile cp LEFT JOIN j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS,
+                        countQuery = "SELECT COUNT(j) FROM Job j LEFT JOIN j.address a WHERE j.isActive = true " +
+                                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS)
+        Page<JobSummaryResponse> findActiveJobSummaries(
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        Pageable pageable);
+
+        @Query(value = JOB_SUMMARY_SELECT +
+                        "FROM Job j JOIN j.companyProfile cp LEFT JOIN j.address a WHERE cp.id = :companyProfileId",
+                        countQuery = "SELECT COUNT(j) FROM Job j WHERE j.companyProfile.id = :companyProfileId")
+        Page<JobSummaryResponse> findJobSummariesByCompanyProfileId(
+                        @Param("companyProfileId") UUID companyProfileId,
+                        Pageable pageable);
+
+        // Keyset feed ordered by (createdAt, id); the redundant createdAt <= bound keeps the scan on idx_jobs_created_at
+        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS +
+                        "ORDER BY j.createdAt DESC, j.id DESC")
+        List<Job> findActiveJobFeed(
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        Pageable pageable);
+
+        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.isActive = true " +
+                        "AND j.status IN ('OPEN', 'HIRED') " + JOB_FEED_FILTERS +
+                        "AND j.createdAt <= :createdAt AND (j.createdAt < :createdAt OR j.id < :id) " +
+                        "ORDER BY j.createdAt DESC, j.id DESC")
+        List<Job> findActiveJobFeedAfter(
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        @Param("createdAt") Instant createdAt,
+                        @Param("id") UUID id,
+                        Pageable pageable);
+
+        // Ranked full-text search; only ids are paged so the entity fetch stays a plain IN lookup
+        @Query(value = "SELECT j.id FROM jobs j LEFT JOIN addresses a ON a.id = j.address_id " +
+                        "WHERE j.is_active = true AND j.status IN ('OPEN', 'HIRED') " +
+                        "AND j.search_vector @@ websearch_to_tsquery('english', :q) " +
+                        JOB_SEARCH_FILTERS +
+                        "ORDER BY ts_rank_cd(j.search_vector, websearch_to_tsquery('english', :q)) DESC, j.created_at DESC, j.id",
+                        countQuery = "SELECT COUNT(*) FROM jobs j LEFT JOIN addresses a ON a.id = j.address_id " +
+                                        "WHERE j.is_active = true AND j.status IN ('OPEN', 'HIRED') " +
+                                        "AND j.search_vector @@ websearch_to_tsquery('english', :q) " +
+                                        JOB_SEARCH_FILTERS,
+                        nativeQuery = true)
+        Page<UUID> searchActiveJobIds(
+                        @Param("q") String q,
+                        @Param("category") String category,
+                        @Param("jobType") String jobType,
+                        @Param("workplaceType") String workplaceType,
+                        @Param("locationKey") String locationKey,
+                        @Param("regionCountryKeys") Collection<String> regionCountryKeys,
+                        @Param("regionCityKeys") Collection<String> regionCityKeys,
+                        @Param("minSalary") BigDecimal minSalary,
+                        @Param("maxSalary") BigDecimal maxSalary,
                         Pageable pageable);
 
-        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp WHERE j.id = :jobId AND j.isActive = true AND j.status IN ('OPEN', 'HIRED')")
+        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.id = :jobId AND j.isActive = true AND j.status IN ('OPEN', 'HIRED')")
         Job findActiveJobWithCompanyProfile(@Param("jobId") UUID jobId);
+
+        @Query("SELECT new com.jobsphere.jobsite.dto.job.ListedJobView(j.id, j.title, cp.id, cp.companyName, " +
+                        "j.category, j.jobType, j.workplaceType, a.city, a.region, j.createdAt) " +
+                        "FROM Job j JOIN j.companyProfile cp LEFT JOIN j.address a WHERE " + LISTED_JOB)
+        List<ListedJobView> findListedJobSnapshots();
+
+        @Query("SELECT new com.jobsphere.jobsite.dto.job.JobMatchView(j.id, j.title, j.description, j.category, " +
+                        "j.jobType, a.city, a.region) FROM Job j LEFT JOIN j.address a " +
+                        "WHERE " + LISTED_JOB + "AND j.id > :after ORDER BY j.id")
+        List<JobMatchView> findListedJobMatchViewsAfter(@Param("after") UUID after, Pageable pageable);
+
+        // Streamed with a bounded fetch size so a full scan never holds every listed job in memory
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+        @Query("SELECT new com.jobsphere.jobsite.dto.job.JobMatchView(j.id, j.title, j.description, j.category, " +
+                        "j.jobType, a.city, a.region) FROM Job j LEFT JOIN j.address a " +
+                        "WHERE " + LISTED_JOB)
+        Stream<JobMatchView> streamListedJobMatchViews();
+
+        @Query("SELECT new com.jobsphere.jobsite.dto.job.JobMatchView(j.id, j.title, j.description, j.category, " +
+                        "j.jobType, a.city, a.region) FROM Job j LEFT JOIN j.address a " +
+                        "WHERE j.id = :jobId AND " + LISTED_JOB)
+        Optional<JobMatchView> findListedJobMatchViewById(@Param("jobId") UUID jobId);
+
+        interface JobVectorView {
+                UUID getId();
+
+                String getTitle();
+
+                String getDescription();
+
+                String getExperienceDescription();
+
+                String getCategory();
+
+                String getExperienceLevel();
+        }
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+        @Query("SELECT j.id AS id, j.title AS title, j.description AS description, " +
+                        "j.experienceDescription AS experienceDescription, j.category AS category, " +
+                        "j.experienceLevel AS experienceLevel FROM Job j WHERE " + LISTED_JOB)
+        Stream<JobVectorView> streamListedJobVectorViews();
+
+        @Query("SELECT j.id AS id, j.title AS title, j.description AS description, " +
+                        "j.experienceDescription AS experienceDescription, j.category AS category, " +
+                        "j.experienceLevel AS experienceLevel FROM Job j WHERE j.id = :jobId AND " + LISTED_JOB)
+        Optional<JobVectorView> findListedJobVectorViewById(@Param("jobId") UUID jobId);
+
+        @Query("SELECT j FROM Job j JOIN FETCH j.companyProfile cp LEFT JOIN FETCH j.address a WHERE j.id IN :jobIds")
+        List<Job> findWithCompanyProfileAndAddressByIdIn(@Param("jobIds") Collection<UUID> jobIds);
+
+        interface JobSalaryView {
+                UUID getId();
+
+                BigDecimal getSalaryMin();
+
+                BigDecimal getSalaryMax();
+
+                String getCurrency();
+
+                String getCompensationType();
+        }
+
+        // Locks one chunk of salaries normalized with other rates (or never) until the caller's transaction
+        // ends; SKIP LOCKED lets several nodes share the work, and updated rows leave the set
+        @Query(value = "SELECT id FROM jobs WHERE (salary_min IS NOT NULL OR salary_max IS NOT NULL) " +
+                        "AND (salary_rates_version IS NULL OR salary_rates_version <> :ratesVersion) " +
+                        "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<UUID> lockStaleSalaries(@Param("ratesVersion") String ratesVersion, @Param("limit") int limit);
+
+        @Query("SELECT j.id AS id, j.salaryMin AS salaryMin, j.salaryMax AS salaryMax, j.currency AS currency, " +
+                        "j.compensationType AS compensationType FROM Job j WHERE j.id IN :jobIds")
+        List<JobSalaryView> findSalariesByIdIn(@Param("jobIds") Collection<UUID> jobIds);
+
+        // Bulk update so the backfill does not bump updatedAt through auditing
+        @Modifying
+        @Query("UPDATE Job j SET j.salaryMinAnnual = :minAnnual, j.salaryMaxAnnual = :maxAnnual, " +
+                        "j.salaryRatesVersion = :ratesVersion WHERE j.id = :jobId")
+        int updateAnnualSalary(@Param("jobId") UUID jobId, @Param("minAnnual") BigDecimal minAnnual,
+                        @Param("maxAnnual") BigDecimal maxAnnual, @Param("ratesVersion") String ratesVersion);
+
+        // Locks one chunk of past-deadline jobs until the caller's transaction ends;
+        // SKIP LOCKED lets several nodes expire jobs concurrently
+        @Query(value = "SELECT id FROM jobs j WHERE " + LISTED_JOB_ROW + "AND deadline < :today " +
+                        "ORDER BY deadline LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<UUID> lockJobsPastDeadline(@Param("today") LocalDate today, @Param("limit") int limit);
+
+        // A HIRED job keeps its status; deactivating it is enough to unlist it
+        @Modifying
+        @Query(value = "UPDATE jobs SET is_active = false, " +
+                        "status = CASE WHEN status = 'HIRED' THEN status ELSE 'CLOSED' END, updated_at = now() " +
+                        "WHERE id IN (:jobIds)", nativeQuery = true)
+        int closeJobs(@Param("jobIds") Collection<UUID> jobIds);
 }
@@ -1,9 +1,13 @@
 package com.jobsphere.jobsite.repository.job;
 
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
 import com.jobsphere.jobsite.model.job.SavedJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,5 +19,12 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, UUID> {
 
     Optional<SavedJob> findByJobIdAndUserId(UUID jobId, UUID userId);
 
+    @EntityGraph(attributePaths = { "job", "job.companyProfile", "job.address" })
     Page<SavedJob> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    @Query(value = JobRepository.JOB_SUMMARY_SELECT +
+            "FROM SavedJob s JOIN s.job j JOIN j.companyProfile cp LEFT JOIN j.address a " +
+            "WHERE s.user.id = :userId ORDER BY s.createdAt DESC",
+            countQuery = "SELECT COUNT(s) FROM SavedJob s WHERE s.user.id = :userId")
+    Page<JobSummaryResponse> findSavedJobSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
 }
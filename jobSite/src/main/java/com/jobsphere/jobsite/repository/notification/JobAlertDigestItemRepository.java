@@ -0,0 +1,30 @@
+package com.jobsphere.jobsite.repository.notification;
+
+import com.jobsphere.jobsite.model.notification.JobAlertDigestItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertDigestItemRepository extends JpaRepository<JobAlertDigestItem, UUID> {
+
+    // A retried outbox entry may queue the same match again, so duplicates are ignored
+    @Modifying
+    @Query(value = "INSERT INTO job_alert_digest_items (seeker_id, job_id, delivery_mode) " +
+            "VALUES (:seekerId, :jobId, :deliveryMode) ON CONFLICT (seeker_id, job_id) DO NOTHING", nativeQuery = true)
+    int enqueue(@Param("seekerId") UUID seekerId, @Param("jobId") UUID jobId,
+            @Param("deliveryMode") String deliveryMode);
+
+    // Ordered by seeker so a batch holds whole digests; SKIP LOCKED lets several nodes send concurrently
+    @Query(value = "SELECT * FROM job_alert_digest_items WHERE delivery_mode = :deliveryMode " +
+            "AND created_at < :before ORDER BY seeker_id, created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<JobAlertDigestItem> claimDue(@Param("deliveryMode") String deliveryMode, @Param("before") Instant before,
+            @Param("limit") int limit);
+}
@@ -0,0 +1,25 @@
+package com.jobsphere.jobsite.repository.notification;
+
+import com.jobsphere.jobsite.model.notification.JobAlertEmail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertEmailRepository extends JpaRepository<JobAlertEmail, UUID> {
+
+    // SKIP LOCKED lets several nodes send without claiming the same emails
+    @Query(value = "SELECT * FROM job_alert_emails WHERE status = 'PENDING' AND available_at <= now() " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<JobAlertEmail> claimPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM JobAlertEmail e WHERE e.status = 'SENT' AND e.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") Instant cutoff);
+}
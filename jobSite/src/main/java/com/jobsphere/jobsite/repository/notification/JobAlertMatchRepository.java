@@ -0,0 +1,69 @@
+package com.jobsphere.jobsite.repository.notification;
+
+import com.jobsphere.jobsite.model.notification.JobAlertMatch;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertMatchRepository extends JpaRepository<JobAlertMatch, UUID> {
+
+    // Every branch carries the listed-job predicate so it can use the partial listing indexes;
+    // profile matches are further limited to OPEN jobs, as they always were
+    String SEEKER_MATCHED_JOBS = "SELECT j.id, j.created_at FROM job_alert_matches m JOIN jobs j ON j.id = m.job_id " +
+            "WHERE m.seeker_id = :seekerId AND " + JobRepository.LISTED_JOB_ROW +
+            "UNION SELECT j.id, j.created_at FROM jobs j WHERE " + JobRepository.LISTED_JOB_ROW +
+            "AND j.status = 'OPEN' AND j.category = ANY (CAST(:categories AS text[])) " +
+            "UNION SELECT j.id, j.created_at FROM jobs j WHERE " + JobRepository.LISTED_JOB_ROW +
+            "AND j.status = 'OPEN' AND j.search_vector @@ websearch_to_tsquery('english', CAST(:skills AS text)) ";
+
+    // The seeker's alert matches plus jobs in a category related to one of their sectors or
+    // mentioning one of their skills; categories are the values stored on the jobs, skills is a
+    // websearch query, null when there are none. Sliced, so no count query repeats the branches.
+    @Query(value = "SELECT matched.id FROM (" + SEEKER_MATCHED_JOBS + ") matched " +
+            "ORDER BY matched.created_at DESC, matched.id DESC",
+            nativeQuery = true)
+    Slice<UUID> findMatchedJobIds(@Param("seekerId") UUID seekerId, @Param("categories") String[] categories,
+            @Param("skills") String skills, Pageable pageable);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM job_alert_matches)", nativeQuery = true)
+    boolean hasAnyMatches();
+
+    // Matches may be recorded again when an outbox entry is retried, so duplicates are ignored
+    @Modifying
+    @Query(value = "INSERT INTO job_alert_matches (seeker_id, job_id, job_created_at) " +
+            "SELECT s.id, j.id, j.created_at FROM jobs j JOIN seekers s ON s.id IN (:seekerIds) " +
+            "WHERE j.id = :jobId ON CONFLICT (seeker_id, job_id) DO NOTHING", nativeQuery = true)
+    int recordJobMatches(@Param("jobId") UUID jobId, @Param("seekerIds") Collection<UUID> seekerIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_alert_matches (seeker_id, job_id, job_created_at) " +
+            "SELECT :seekerId, j.id, j.created_at FROM jobs j WHERE j.id IN (:jobIds) " +
+            "ON CONFLICT (seeker_id, job_id) DO NOTHING", nativeQuery = true)
+    int recordSeekerMatches(@Param("seekerId") UUID seekerId, @Param("jobIds") Collection<UUID> jobIds);
+
+    // Clears the seeker's matches ahead of a rebuild, keeping rows recorded after the calling transaction
+    // started: those are for jobs posted after its scan began, which the rebuilt set cannot contain
+    @Modifying
+    @Query(value = "DELETE FROM job_alert_matches WHERE seeker_id = :seekerId " +
+            "AND matched_at < transaction_timestamp()", nativeQuery = true)
+    int deleteBySeekerIdMatchedBeforeTransaction(@Param("seekerId") UUID seekerId);
+
+    @Modifying
+    @Query("DELETE FROM JobAlertMatch m WHERE m.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") UUID jobId);
+
+    // Safety net for close events that were never handled (e.g. a node stopped mid-flight)
+    @Modifying
+    @Query(value = "DELETE FROM job_alert_matches m WHERE NOT EXISTS (SELECT 1 FROM jobs j " +
+            "WHERE j.id = m.job_id AND " + JobRepository.LISTED_JOB_ROW + ")", nativeQuery = true)
+    int deleteForClosedJobs();
+}
@@ -0,0 +1,25 @@
+package com.jobsphere.jobsite.repository.notification;
+
+import com.jobsphere.jobsite.model.notification.JobAlertOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JobAlertOutboxRepository extends JpaRepository<JobAlertOutbox, UUID> {
+
+    // SKIP LOCKED lets several nodes drain the outbox without claiming the same rows
+    @Query(value = "SELECT * FROM job_alert_outbox WHERE status = 'PENDING' AND available_at <= now() " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<JobAlertOutbox> claimPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM JobAlertOutbox o WHERE o.status = 'DONE' AND o.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff);
+}
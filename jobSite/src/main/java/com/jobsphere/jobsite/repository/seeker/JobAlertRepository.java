@@ -2,8 +2,12 @@ package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.JobAlert;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +16,12 @@ public interface JobAlertRepository extends JpaRepository<JobAlert, UUID> {
     List<JobAlert> findBySeekerId(UUID seekerId);
 
     List<JobAlert> findByIsActiveTrue();
+
+    List<JobAlert> findBySeekerIdAndIsActiveTrue(UUID seekerId);
+
+    @Modifying
+    @Query("UPDATE JobAlert a SET a.backfillStatus = :status, a.backfillMatchCount = :matchCount, " +
+            "a.backfillCompletedAt = :completedAt WHERE a.id = :alertId")
+    int updateBackfillResult(@Param("alertId") UUID alertId, @Param("status") String status,
+            @Param("matchCount") Integer matchCount, @Param("completedAt") Instant completedAt);
 }
@@ -1,12 +1,29 @@
 package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.SeekerBio;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SeekerBioRepository extends JpaRepository<SeekerBio, UUID> {
     Optional<SeekerBio> findBySeekerId(UUID seekerId);
+    List<SeekerBio> findBySeekerIdIn(Collection<UUID> seekerIds);
     void deleteBySeekerId(UUID seekerId);
+
+    interface SeekerBioTitleView {
+        UUID getSeekerId();
+        String getTitle();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.seekerId AS seekerId, b.title AS title FROM SeekerBio b WHERE b.title IS NOT NULL")
+    Stream<SeekerBioTitleView> streamSeekerBioTitles();
 }
 
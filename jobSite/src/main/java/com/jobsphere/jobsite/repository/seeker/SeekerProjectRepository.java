@@ -2,12 +2,19 @@ package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.SeekerProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SeekerProjectRepository extends JpaRepository<SeekerProject, UUID> {
     List<SeekerProject> findBySeekerId(UUID seekerId);
+
+    @Query("SELECT DISTINCT p FROM SeekerProject p LEFT JOIN FETCH p.images WHERE p.seekerId IN :seekerIds")
+    List<SeekerProject> findWithImagesBySeekerIdIn(@Param("seekerIds") Collection<UUID> seekerIds);
+
     List<SeekerProject> findBySeekerIdAndTitleContainingIgnoreCase(UUID seekerId, String title);
     Optional<SeekerProject> findByIdAndSeekerId(UUID id, UUID seekerId);
 }
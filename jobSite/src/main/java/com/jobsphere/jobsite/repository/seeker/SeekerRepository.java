@@ -2,7 +2,53 @@ package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.Seeker;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SeekerRepository extends JpaRepository<Seeker, UUID> {
-}
\ No newline at end of file
+
+    @Query("SELECT s.profileVersion FROM Seeker s WHERE s.id = :seekerId")
+    Optional<Long> findProfileVersionById(@Param("seekerId") UUID seekerId);
+
+    @Modifying
+    @Query(value = "UPDATE seekers SET profile_version = nextval('seeker_profile_version_seq') WHERE id = :seekerId",
+            nativeQuery = true)
+    int bumpProfileVersion(@Param("seekerId") UUID seekerId);
+
+    // The whole profile as one JSON document in a single round trip; keys match the entity field names
+    @Query(value = "SELECT CAST(json_build_object(" +
+            "'seeker', json_build_object('id', s.id, 'firstName', s.first_name, 'middleName', s.middle_name, " +
+            "'lastName', s.last_name, 'phone', s.phone, 'gender', s.gender, 'dateOfBirth', s.date_of_birth, " +
+            "'addressId', s.address_id, 'profileImageUrl', s.profile_image_url, 'cvUrl', s.cv_url), " +
+            "'email', u.email, " +
+            "'address', CASE WHEN a.id IS NULL THEN NULL ELSE json_build_object('id', a.id, " +
+            "'country', a.country, 'region', a.region, 'city', a.city, 'subCity', a.sub_city, " +
+            "'street', a.street) END, " +
+            "'bio', (SELECT json_build_object('title', b.title, 'bio', b.bio) " +
+            "FROM seeker_bio b WHERE b.seeker_id = s.id LIMIT 1), " +
+            "'skills', (SELECT json_agg(json_build_object('id', k.id, 'skill', k.skill, " +
+            "'proficiency', k.proficiency) ORDER BY k.created_at, k.id) " +
+            "FROM seeker_skills k WHERE k.seeker_id = s.id), " +
+            "'projects', (SELECT json_agg(json_build_object('id', p.id, 'title', p.title, " +
+            "'description', p.description, 'projectUrl', p.project_url, 'imageUrl', p.image_url, " +
+            "'videoUrl', p.video_url, 'videoType', p.video_type, " +
+            "'images', (SELECT json_agg(json_build_object('imageUrl', i.image_url) ORDER BY i.created_at, i.id) " +
+            "FROM seeker_project_images i WHERE i.project_id = p.id)) ORDER BY p.created_at, p.id) " +
+            "FROM seeker_projects p WHERE p.seeker_id = s.id), " +
+            "'sectors', (SELECT json_agg(json_build_object('id', c.id, 'sector', c.sector) " +
+            "ORDER BY c.created_at, c.id) FROM seeker_sector c WHERE c.seeker_id = s.id), " +
+            "'tags', (SELECT json_agg(json_build_object('tag', t.tag) ORDER BY t.created_at, t.id) " +
+            "FROM seeker_tags t WHERE t.seeker_id = s.id), " +
+            "'socialLinks', (SELECT json_agg(json_build_object('platform', l.platform, 'url', l.url) " +
+            "ORDER BY l.created_at, l.id) FROM seeker_social_links l WHERE l.seeker_id = s.id), " +
+            "'cv', (SELECT json_build_object('id', v.id, 'cvUrl', v.cv_url, 'fileName', v.file_name, " +
+            "'fileSize', v.file_size, 'title', v.title, 'about', v.about, 'details', v.details) " +
+            "FROM seeker_cv v WHERE v.seeker_id = s.id LIMIT 1)" +
+            ") AS TEXT) FROM seekers s JOIN users u ON u.id = s.id LEFT JOIN addresses a ON a.id = s.address_id " +
+            "WHERE s.id = :seekerId", nativeQuery = true)
+    Optional<String> findFullProfileJsonById(@Param("seekerId") UUID seekerId);
+}
@@ -1,14 +1,30 @@
 package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.SeekerSector;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SeekerSectorRepository extends JpaRepository<SeekerSector, UUID> {
     List<SeekerSector> findBySeekerId(UUID seekerId);
 
+    List<SeekerSector> findBySeekerIdIn(Collection<UUID> seekerIds);
+
     Optional<SeekerSector> findBySeekerIdAndSector(UUID seekerId, String sector);
 
+    interface SeekerSectorView {
+        UUID getSeekerId();
+        String getSector();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.seekerId AS seekerId, s.sector AS sector FROM SeekerSector s")
+    Stream<SeekerSectorView> streamSeekerSectors();
 }
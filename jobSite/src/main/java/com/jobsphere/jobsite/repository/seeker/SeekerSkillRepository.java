@@ -1,14 +1,43 @@
 package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.SeekerSkill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SeekerSkillRepository extends JpaRepository<SeekerSkill, UUID> {
     List<SeekerSkill> findBySeekerId(UUID seekerId);
+    List<SeekerSkill> findBySeekerIdIn(Collection<UUID> seekerIds);
     Optional<SeekerSkill> findByIdAndSeekerId(UUID id, UUID seekerId);
     Optional<SeekerSkill> findBySeekerIdAndSkill(UUID seekerId, String skill);
-}
 
+    interface SkillFrequency {
+        String getSkill();
+        long getSeekerCount();
+    }
+
+    @Query("SELECT s.skill AS skill, COUNT(s) AS seekerCount FROM SeekerSkill s GROUP BY s.skill")
+    List<SkillFrequency> countSeekersBySkill();
+
+    // Same count as countSeekersBySkill, summed over every spelling with the same TextUtils.normalizeKey
+    @Query(value = "SELECT COUNT(*) FROM seeker_skills WHERE skill_key(skill) = :skillKey", nativeQuery = true)
+    long countSeekersBySkillKey(@Param("skillKey") String skillKey);
+
+    interface SeekerSkillView {
+        UUID getSeekerId();
+        String getSkill();
+        String getProficiency();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.seekerId AS seekerId, s.skill AS skill, s.proficiency AS proficiency FROM SeekerSkill s")
+    Stream<SeekerSkillView> streamSeekerSkills();
+}
@@ -2,11 +2,13 @@ package com.jobsphere.jobsite.repository.seeker;
 
 import com.jobsphere.jobsite.model.seeker.SeekerSocialLink;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface SeekerSocialLinkRepository extends JpaRepository<SeekerSocialLink, UUID> {
     List<SeekerSocialLink> findBySeekerId(UUID seekerId);
+    List<SeekerSocialLink> findBySeekerIdIn(Collection<UUID> seekerIds);
     void deleteBySeekerId(UUID seekerId);
 }
 
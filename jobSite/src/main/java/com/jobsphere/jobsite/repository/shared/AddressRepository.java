@@ -2,7 +2,20 @@ package com.jobsphere.jobsite.repository.shared;
 
 import com.jobsphere.jobsite.model.shared.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AddressRepository extends JpaRepository<Address, UUID> {
-}
\ No newline at end of file
+
+    // Seekers edit their address row in place, so only rows no seeker points at can be shared
+    @Query(value = "SELECT * FROM addresses a WHERE a.country_key = :countryKey " +
+            "AND (a.region_key = CAST(:regionKey AS text) OR (CAST(:regionKey AS text) IS NULL AND a.region_key IS NULL)) " +
+            "AND a.city IS NULL AND a.sub_city IS NULL AND a.street IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM seekers s WHERE s.address_id = a.id) " +
+            "ORDER BY a.created_at LIMIT 1", nativeQuery = true)
+    Optional<Address> findShareableRegionAddress(@Param("countryKey") String countryKey,
+            @Param("regionKey") String regionKey);
+}
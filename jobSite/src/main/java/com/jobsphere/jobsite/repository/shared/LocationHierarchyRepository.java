@@ -0,0 +1,15 @@
+package com.jobsphere.jobsite.repository.shared;
+
+import com.jobsphere.jobsite.model.shared.LocationHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LocationHierarchyRepository extends JpaRepository<LocationHierarchy, LocationHierarchy.Key> {
+
+    // Cities recorded under a region, served by idx_location_hierarchy_region_city
+    @Query("SELECT h FROM LocationHierarchy h WHERE h.regionKey = :regionKey AND h.cityKey <> ''")
+    List<LocationHierarchy> findCitiesInRegion(@Param("regionKey") String regionKey);
+}
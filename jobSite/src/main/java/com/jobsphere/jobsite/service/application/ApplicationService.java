@@ -16,10 +16,13 @@ import com.jobsphere.jobsite.repository.seeker.SeekerTagRepository;
 import com.jobsphere.jobsite.model.seeker.SeekerSkill;
 import com.jobsphere.jobsite.model.seeker.SeekerSector;
 import com.jobsphere.jobsite.model.seeker.SeekerTag;
+import com.jobsphere.jobsite.service.job.JobChangedEvent;
+import com.jobsphere.jobsite.service.job.JobDetailCache;
 import com.jobsphere.jobsite.service.shared.AuthenticationService;
 import com.jobsphere.jobsite.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,6 +45,8 @@ public class ApplicationService {
     private final SeekerTagRepository tagRepository;
     private final AuthenticationService authenticationService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobDetailCache jobDetailCache;
 
     @Transactional
     public ApplicationResponse applyForJob(ApplicationCreateRequest request) {
@@ -72,6 +77,8 @@ public class ApplicationService {
 
         application = applicationRepository.save(application);
         log.info("Application created: {} for job {} by seeker {}", application.getId(), job.getId(), seekerId);
+        // Cached job detail carries the applicant count
+        jobDetailCache.invalidate(job.getId());
 
         notificationService.notifyNewApplication(job.getCompanyProfile().getUserId(), job.getTitle());
 
@@ -199,6 +206,8 @@ public class ApplicationService {
 
         jobRepository.save(job);
         log.info("Updated job {} filled count to {} and status to {}", jobId, newFilledCount, job.getStatus());
+        eventPublisher.publishEvent(JobChangedEvent.from(job));
+        jobDetailCache.invalidate(jobId);
     }
 
     private ApplicationResponse mapToResponse(Application application) {
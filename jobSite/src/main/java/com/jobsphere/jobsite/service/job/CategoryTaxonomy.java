@@ -0,0 +1,222 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Category relatedness for matching. Sector names and synonyms from
+ * {@code taxonomy/categories.json} are interned to ids at startup, and a sector is
+ * related to its sub-sectors. Free-text categories resolve to the taxonomy name
+ * they best contain or are contained in; anything else gets a negative free-text
+ * id whose normalized text is kept, and two free-text categories are related when
+ * one text equals or contains the other. The taxonomy is not changed after
+ * startup, and resolved strings sit in a bounded cache, so a lookup on the
+ * matching paths is usually a cache hit plus a bit test.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTaxonomy {
+    public static final int NONE = -1;
+
+    private static final String TAXONOMY_PATH = "taxonomy/categories.json";
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // Shorter names such as "it" or "hr" only match as whole words, never as substrings
+    private static final int MIN_SUBSTRING_LENGTH = 4;
+    private static final int MAX_CACHED_CATEGORIES = 10_000;
+    private static final int MAX_FREE_TEXT_CATEGORIES = 100_000;
+    // Given to free text past the limit; relates to nothing, not even itself
+    private static final int UNRELATED = Integer.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+
+    // Raw category string -> id; bounded because raw strings come from user input
+    private final Cache<String, Integer> idsByRaw = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_CATEGORIES)
+            .build();
+    // Normalized free text <-> id, -2 downwards; only appended to, so an id never changes its text
+    private final Map<String, Integer> freeTextIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> freeTextKeys = new ConcurrentHashMap<>();
+    // Everything below is written by load() only and read-only afterwards
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<Integer> nameIds = new ArrayList<>();
+    // Row i holds the ids lower than i that are related to i
+    private volatile BitSet[] relatedBelow = new BitSet[0];
+
+    public record Sector(String name, List<String> synonyms, List<Sector> children) {
+    }
+
+    @PostConstruct
+    public synchronized void load() throws IOException {
+        List<Sector> sectors;
+        try (InputStream in = new ClassPathResource(TAXONOMY_PATH).getInputStream()) {
+            sectors = objectMapper.readValue(in, new TypeReference<List<Sector>>() {
+            });
+        }
+        idsByRaw.invalidateAll();
+        freeTextIds.clear();
+        freeTextKeys.clear();
+        for (Sector sector : sectors) {
+            int sectorId = addNode(sector, new BitSet());
+            if (sector.children() != null) {
+                for (Sector child : sector.children()) {
+                    BitSet related = new BitSet();
+                    related.set(sectorId);
+                    addNode(child, related);
+                }
+            }
+        }
+        log.info("Category taxonomy loaded with {} categories and {} names", relatedBelow.length, names.size());
+    }
+
+    public int categoryId(String category) {
+        if (category == null)
+            return NONE;
+        return idsByRaw.get(category, this::resolve);
+    }
+
+    public boolean related(int a, int b) {
+        if (a == NONE || b == NONE)
+            return false;
+        // Free-text ids are negative and only relate to other free text
+        if (a < 0 || b < 0)
+            return a < 0 && b < 0 && relatedText(freeTextKeys.get(a), freeTextKeys.get(b));
+        if (a == b)
+            return true;
+        BitSet[] rows = relatedBelow;
+        int high = Math.max(a, b);
+        return high < rows.length && rows[high].get(Math.min(a, b));
+    }
+
+    public boolean related(String a, String b) {
+        return related(categoryId(a), categoryId(b));
+    }
+
+    private int resolve(String category) {
+        String key = normalize(category);
+        if (key.isEmpty())
+            return NONE;
+        Integer id = idsByKey.get(key);
+        if (id == null) {
+            id = resolveByWords(key);
+        }
+        if (id == null) {
+            id = resolveBySubstring(key);
+        }
+        return id != null ? id : freeTextId(key);
+    }
+
+    // "Senior IT Officer" resolves to the most specific taxonomy name it contains as whole words
+    private Integer resolveByWords(String key) {
+        String padded = " " + key + " ";
+        Integer best = null;
+        int bestLength = 0;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name.length() > bestLength && padded.contains(" " + name + " ")) {
+                best = nameIds.get(i);
+                bestLength = name.length();
+            }
+        }
+        return best;
+    }
+
+    // Otherwise the longest known name it contains, or the shortest one containing it
+    private Integer resolveBySubstring(String key) {
+        Integer contained = null;
+        int containedLength = 0;
+        Integer containing = null;
+        int containingLength = Integer.MAX_VALUE;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name.length() >= MIN_SUBSTRING_LENGTH && name.length() > containedLength && key.contains(name)) {
+                contained = nameIds.get(i);
+                containedLength = name.length();
+            } else if (key.length() >= MIN_SUBSTRING_LENGTH && name.length() < containingLength
+                    && name.contains(key)) {
+                containing = nameIds.get(i);
+                containingLength = name.length();
+            }
+        }
+        return contained != null ? contained : containing;
+    }
+
+    // Equal free text gets the same id; the text is kept so related() compares keys, not ids
+    private int freeTextId(String key) {
+        Integer id = freeTextIds.get(key);
+        if (id != null)
+            return id;
+        synchronized (freeTextIds) {
+            id = freeTextIds.get(key);
+            if (id != null)
+                return id;
+            if (freeTextIds.size() >= MAX_FREE_TEXT_CATEGORIES) {
+                log.warn("Free-text category limit of {} reached; '{}' relates to no other category",
+                        MAX_FREE_TEXT_CATEGORIES, key);
+                return UNRELATED;
+            }
+            int next = NONE - 1 - freeTextIds.size();
+            freeTextKeys.put(next, key);
+            freeTextIds.put(key, next);
+            return next;
+        }
+    }
+
+    // Same containment rule as resolveBySubstring, so short words such as "it" only match exactly
+    private static boolean relatedText(String a, String b) {
+        if (a == null || b == null)
+            return false;
+        if (a.equals(b))
+            return true;
+        String shorter = a.length() <= b.length() ? a : b;
+        String longer = shorter == a ? b : a;
+        return shorter.length() >= MIN_SUBSTRING_LENGTH && longer.contains(shorter);
+    }
+
+    private int addNode(Sector sector, BitSet related) {
+        int id = publish(related);
+        register(normalize(sector.name()), id);
+        if (sector.synonyms() != null) {
+            sector.synonyms().forEach(synonym -> register(normalize(synonym), id));
+        }
+        return id;
+    }
+
+    private int publish(BitSet related) {
+        BitSet[] rows = Arrays.copyOf(relatedBelow, relatedBelow.length + 1);
+        rows[rows.length - 1] = related;
+        relatedBelow = rows;
+        return rows.length - 1;
+    }
+
+    private void register(String key, int id) {
+        if (key.isEmpty() || idsByKey.putIfAbsent(key, id) != null)
+            return;
+        names.add(key);
+        nameIds.add(id);
+    }
+
+    private static String normalize(String value) {
+        return NON_WORD.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,384 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+import com.jobsphere.jobsite.repository.seeker.JobAlertRepository;
+import com.jobsphere.jobsite.service.seeker.JobAlertChangedEvent;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.KeywordAutomaton;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of active job alerts. Alerts are compiled once and bucketed by
+ * category, job type, location and keyword, so a new job is only checked against
+ * the alerts in the smallest matching bucket set instead of every active alert.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertIndex {
+    private final JobAlertRepository jobAlertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryTaxonomy categoryTaxonomy;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private final AlertSet active = new AlertSet();
+
+    public record IndexedAlert(
+            UUID alertId,
+            UUID seekerId,
+            String category,
+            int categoryId,
+            String jobType,
+            String location,
+            List<String> keywords,
+            boolean keywordFilter,
+            String deliveryMode) {
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Other nodes mutate alerts too, so periodically reconcile with the database
+    @Scheduled(initialDelayString = "${jobsphere.alerts.index.refresh-interval-ms:300000}",
+            fixedDelayString = "${jobsphere.alerts.index.refresh-interval-ms:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        List<IndexedAlert> compiled = changes.rebuild(this::readActiveAlerts, this::install);
+        log.info("Job alert index rebuilt with {} active alerts", compiled.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertChanged(JobAlertChangedEvent event) {
+        JobAlert alert = event.alert();
+        IndexedAlert compiled = !event.removed() && Boolean.TRUE.equals(alert.getIsActive())
+                ? compile(alert, event.seekerId())
+                : null;
+        changes.apply(() -> {
+            active.remove(alert.getId());
+            if (compiled != null) {
+                active.insert(compiled);
+            }
+        });
+    }
+
+    public List<IndexedAlert> findMatchingAlerts(JobMatchView job) {
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readActiveAlerts, this::install);
+        }
+        lock.readLock().lock();
+        try {
+            if (!active.automataStale) {
+                return active.match(job);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Downgrading to the read lock before releasing the write lock keeps an alert change from
+        // landing between the rebuild and the match and leaving the automata stale again
+        lock.writeLock().lock();
+        try {
+            active.rebuildAutomata();
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            return active.match(job);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The reverse lookup: which of these jobs each alert matches. Used to backfill a seeker's matches.
+    public Map<UUID, List<UUID>> findMatchingJobs(Collection<JobAlert> jobAlerts, List<JobMatchView> jobs) {
+        AlertSet scanned = new AlertSet();
+        jobAlerts.stream()
+                .filter(alert -> Boolean.TRUE.equals(alert.getIsActive()))
+                .map(alert -> compile(alert, null))
+                .forEach(scanned::insert);
+        if (scanned.alerts.isEmpty() || jobs.isEmpty()) {
+            return Map.of();
+        }
+        scanned.rebuildAutomata();
+
+        Map<UUID, List<UUID>> matched = new HashMap<>();
+        for (JobMatchView job : jobs) {
+            for (IndexedAlert alert : scanned.match(job)) {
+                matched.computeIfAbsent(alert.alertId(), id -> new ArrayList<>()).add(job.id());
+            }
+        }
+        return matched;
+    }
+
+    private List<IndexedAlert> readActiveAlerts() {
+        return transactionTemplate.execute(status -> jobAlertRepository.findByIsActiveTrue()
+                .stream()
+                .map(alert -> compile(alert, alert.getSeeker().getId()))
+                .toList());
+    }
+
+    private void install(List<IndexedAlert> compiled) {
+        active.clear();
+        compiled.forEach(active::insert);
+    }
+
+    private IndexedAlert compile(JobAlert alert, UUID seekerId) {
+        boolean keywordFilter = alert.getKeywords() != null && !alert.getKeywords().isEmpty();
+        List<String> alertKeywords = keywordFilter
+                ? Arrays.stream(alert.getKeywords().split(","))
+                        .map(this::normalize)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList()
+                : List.of();
+
+        return new IndexedAlert(
+                alert.getId(),
+                seekerId,
+                normalize(alert.getCategory()),
+                categoryTaxonomy.categoryId(alert.getCategory()),
+                normalize(alert.getJobType()),
+                normalize(alert.getPreferredLocation()),
+                alertKeywords,
+                keywordFilter,
+                alert.getDeliveryMode());
+    }
+
+    private String normalize(String value) {
+        if (value == null)
+            return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> single(String key) {
+        return key != null ? List.of(key) : null;
+    }
+
+    private static List<Collection<UUID>> smaller(List<Collection<UUID>> a, List<Collection<UUID>> b) {
+        return size(b) < size(a) ? b : a;
+    }
+
+    private static long size(List<Collection<UUID>> buckets) {
+        long total = 0;
+        for (Collection<UUID> bucket : buckets) {
+            total += bucket.size();
+        }
+        return total;
+    }
+
+    /**
+     * Compiled alerts bucketed by dimension, with keyword and location automata
+     * over the bucket keys. The live index is one of these; a backfill builds a
+     * throwaway one over a seeker's alerts, so both match jobs the same way.
+     */
+    private final class AlertSet {
+        private final Map<UUID, IndexedAlert> alerts = new HashMap<>();
+        private final Dimension keywords = new Dimension();
+        private final Dimension categories = new Dimension();
+        private final Dimension jobTypes = new Dimension();
+        private final Dimension locations = new Dimension();
+        private final Map<String, Set<String>> relatedCategoryCache = new ConcurrentHashMap<>();
+
+        private volatile KeywordAutomaton keywordAutomaton = KeywordAutomaton.empty();
+        private volatile KeywordAutomaton locationAutomaton = KeywordAutomaton.empty();
+        private volatile boolean automataStale;
+
+        List<IndexedAlert> match(JobMatchView job) {
+            if (alerts.isEmpty()) {
+                return List.of();
+            }
+
+            Set<String> keywordHits = keywordAutomaton.findAll(job.title(), job.description());
+            Set<String> locationHits = locationAutomaton.findAll(job.city(), job.region());
+            Set<String> allowedCategories = job.category() != null ? relatedCategories(job.category()) : null;
+            int jobCategoryId = categoryTaxonomy.categoryId(job.category());
+            String jobType = normalize(job.jobType());
+
+            // Drive the scan from whichever dimension yields the fewest candidates
+            List<Collection<UUID>> candidates = keywords.candidates(keywordHits);
+            candidates = smaller(candidates, locations.candidates(locationHits));
+            candidates = smaller(candidates, jobTypes.candidates(jobType != null ? Set.of(jobType) : Set.of()));
+            if (allowedCategories != null) {
+                candidates = smaller(candidates, categories.candidates(allowedCategories));
+            }
+
+            List<IndexedAlert> matches = new ArrayList<>();
+            Set<UUID> seen = new HashSet<>();
+            for (Collection<UUID> bucket : candidates) {
+                for (UUID alertId : bucket) {
+                    IndexedAlert alert = alerts.get(alertId);
+                    if (alert != null && seen.add(alertId)
+                            && matches(alert, keywordHits, locationHits, jobCategoryId, jobType)) {
+                        matches.add(alert);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private boolean matches(IndexedAlert alert, Set<String> keywordHits, Set<String> locationHits,
+                int jobCategoryId, String jobType) {
+            // A job without a category does not fail an alert's category filter
+            if (alert.categoryId() != CategoryTaxonomy.NONE && jobCategoryId != CategoryTaxonomy.NONE
+                    && !categoryTaxonomy.related(alert.categoryId(), jobCategoryId))
+                return false;
+            if (alert.jobType() != null && !alert.jobType().equals(jobType))
+                return false;
+            if (alert.location() != null && !locationHits.contains(alert.location()))
+                return false;
+            if (alert.keywordFilter()) {
+                for (String keyword : alert.keywords()) {
+                    if (keywordHits.contains(keyword))
+                        return true;
+                }
+                return false;
+            }
+            return true;
+        }
+
+        // Alert category buckets related to a job category, used to narrow the candidate scan
+        private Set<String> relatedCategories(String jobCategory) {
+            return relatedCategoryCache.computeIfAbsent(jobCategory, key -> {
+                int jobCategoryId = categoryTaxonomy.categoryId(key);
+                Set<String> related = new HashSet<>();
+                for (String alertCat : categories.keys()) {
+                    if (categoryTaxonomy.related(categoryTaxonomy.categoryId(alertCat), jobCategoryId)) {
+                        related.add(alertCat);
+                    }
+                }
+                return related;
+            });
+        }
+
+        void rebuildAutomata() {
+            if (automataStale) {
+                keywordAutomaton = KeywordAutomaton.of(keywords.keys());
+                locationAutomaton = KeywordAutomaton.of(locations.keys());
+                automataStale = false;
+            }
+        }
+
+        void insert(IndexedAlert alert) {
+            UUID id = alert.alertId();
+            alerts.put(id, alert);
+            if (keywords.add(id, alert.keywordFilter() ? alert.keywords() : null))
+                automataStale = true;
+            if (categories.add(id, single(alert.category())))
+                relatedCategoryCache.clear();
+            jobTypes.add(id, single(alert.jobType()));
+            if (locations.add(id, single(alert.location())))
+                automataStale = true;
+        }
+
+        void remove(UUID alertId) {
+            IndexedAlert alert = alerts.remove(alertId);
+            if (alert == null)
+                return;
+            keywords.remove(alertId, alert.keywordFilter() ? alert.keywords() : null);
+            categories.remove(alertId, single(alert.category()));
+            jobTypes.remove(alertId, single(alert.jobType()));
+            locations.remove(alertId, single(alert.location()));
+        }
+
+        void clear() {
+            alerts.clear();
+            keywords.clear();
+            categories.clear();
+            jobTypes.clear();
+            locations.clear();
+            relatedCategoryCache.clear();
+            automataStale = true;
+        }
+    }
+
+    // Alerts without a value for a dimension are wildcards and always remain candidates
+    private static final class Dimension {
+        private final Map<String, Set<UUID>> buckets = new HashMap<>();
+        private final Set<UUID> wildcard = new HashSet<>();
+
+        boolean add(UUID alertId, Collection<String> keys) {
+            if (keys == null) {
+                wildcard.add(alertId);
+                return false;
+            }
+            boolean newKey = false;
+            for (String key : keys) {
+                Set<UUID> bucket = buckets.get(key);
+                if (bucket == null) {
+                    bucket = new HashSet<>();
+                    buckets.put(key, bucket);
+                    newKey = true;
+                }
+                bucket.add(alertId);
+            }
+            return newKey;
+        }
+
+        void remove(UUID alertId, Collection<String> keys) {
+            if (keys == null) {
+                wildcard.remove(alertId);
+                return;
+            }
+            for (String key : keys) {
+                Set<UUID> bucket = buckets.get(key);
+                if (bucket != null && bucket.remove(alertId) && bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+
+        List<Collection<UUID>> candidates(Set<String> keys) {
+            List<Collection<UUID>> result = new ArrayList<>(keys.size() + 1);
+            result.add(wildcard);
+            for (String key : keys) {
+                Set<UUID> bucket = buckets.get(key);
+                if (bucket != null) {
+                    result.add(bucket);
+                }
+            }
+            return result;
+        }
+
+        Set<String> keys() {
+            return buckets.keySet();
+        }
+
+        void clear() {
+            buckets.clear();
+            wildcard.clear();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertMatchRepository;
+import com.jobsphere.jobsite.repository.seeker.JobAlertRepository;
+import com.jobsphere.jobsite.service.notification.NotificationService;
+import com.jobsphere.jobsite.service.seeker.JobAlertChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maintains job_alert_matches outside the job-post path: JobAlertDispatcher
+ * records matches for new jobs, this service adds a new or re-enabled alert's
+ * matches in the background, recomputes a seeker's matches when one of their
+ * alerts stops matching (recording each alert's match count) and removes
+ * matches for jobs that are no longer listed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertMatchService {
+    private static final int JOB_BATCH_SIZE = 500;
+
+    private final JobAlertMatchRepository jobAlertMatchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final JobRepository jobRepository;
+    private final JobAlertIndex jobAlertIndex;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    // First start after the table was introduced: fill it from the listed jobs in one pass
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (jobAlertMatchRepository.hasAnyMatches())
+            return;
+        int recorded = 0;
+        UUID after = new UUID(0L, 0L);
+        List<JobMatchView> batch;
+        do {
+            batch = jobRepository.findListedJobMatchViewsAfter(after, PageRequest.of(0, JOB_BATCH_SIZE));
+            for (JobMatchView job : batch) {
+                Set<UUID> seekerIds = jobAlertIndex.findMatchingAlerts(job).stream()
+                        .map(JobAlertIndex.IndexedAlert::seekerId)
+                        .collect(Collectors.toSet());
+                if (!seekerIds.isEmpty()) {
+                    Integer rows = transactionTemplate.execute(
+                            status -> jobAlertMatchRepository.recordJobMatches(job.id(), seekerIds));
+                    recorded += rows != null ? rows : 0;
+                }
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == JOB_BATCH_SIZE);
+        log.info("Backfilled {} job alert matches", recorded);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertChanged(JobAlertChangedEvent event) {
+        if (!event.matchingChanged())
+            return;
+        // An alert that starts matching only adds rows; one that stops leaves the union to recompute
+        if (!event.removed() && Boolean.TRUE.equals(event.alert().getIsActive())) {
+            jobAlertRepository.findById(event.alert().getId())
+                    .filter(alert -> Boolean.TRUE.equals(alert.getIsActive()))
+                    .ifPresent(alert -> recordMatches(event.seekerId(), List.of(alert), false));
+        } else {
+            rebuildSeekerMatches(event.seekerId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.listed())
+            return;
+        transactionTemplate.executeWithoutResult(status -> jobAlertMatchRepository.deleteByJobId(event.jobId()));
+    }
+
+    @Scheduled(cron = "${jobsphere.alerts.matches.cleanup-cron:0 15 4 * * *}")
+    public void purgeClosedJobMatches() {
+        Integer deleted = transactionTemplate.execute(status -> jobAlertMatchRepository.deleteForClosedJobs());
+        log.info("Purged {} job alert matches for closed jobs", deleted);
+    }
+
+    // Streams every listed job past the seeker's alerts, then swaps in the new matches and per-alert counts
+    public void rebuildSeekerMatches(UUID seekerId) {
+        recordMatches(seekerId, jobAlertRepository.findBySeekerIdAndIsActiveTrue(seekerId), true);
+    }
+
+    private void recordMatches(UUID seekerId, List<JobAlert> alerts, boolean replace) {
+        Map<UUID, Set<UUID>> matchesByAlert;
+        Set<UUID> union = new LinkedHashSet<>();
+        try {
+            // Scanned and swapped in one transaction, so the swap can tell rows recorded before the
+            // scan from those JobAlertDispatcher records for jobs posted while it runs
+            matchesByAlert = transactionTemplate.execute(status -> {
+                Map<UUID, Set<UUID>> matches = alerts.isEmpty() ? Map.of() : scanOpenJobs(alerts);
+                matches.values().forEach(union::addAll);
+                writeMatches(seekerId, alerts, matches, new ArrayList<>(union), replace);
+                return matches;
+            });
+        } catch (RuntimeException e) {
+            log.error("Job alert backfill failed for seeker {}", seekerId, e);
+            transactionTemplate.executeWithoutResult(status -> alerts.stream()
+                    .filter(alert -> JobAlert.BACKFILL_PENDING.equals(alert.getBackfillStatus()))
+                    .forEach(alert -> jobAlertRepository.updateBackfillResult(alert.getId(),
+                            JobAlert.BACKFILL_FAILED, null, Instant.now())));
+            return;
+        }
+        List<UUID> matched = new ArrayList<>(union);
+        log.info("{} {} job alert matches for seeker {}", replace ? "Rebuilt" : "Added", matched.size(), seekerId);
+
+        // Alerts that were waiting on this scan report their result to the seeker
+        for (JobAlert alert : alerts) {
+            if (JobAlert.BACKFILL_PENDING.equals(alert.getBackfillStatus())) {
+                int count = matchesByAlert.getOrDefault(alert.getId(), Set.of()).size();
+                notificationService.createNotification(seekerId, "Job Alert Ready",
+                        "Your job alert for \"" + alert.getKeywords() + "\" matches " + count
+                                + (count == 1 ? " open job" : " open jobs"));
+            }
+        }
+    }
+
+    private void writeMatches(UUID seekerId, List<JobAlert> alerts, Map<UUID, Set<UUID>> matchesByAlert,
+            List<UUID> matched, boolean replace) {
+        if (replace) {
+            jobAlertMatchRepository.deleteBySeekerIdMatchedBeforeTransaction(seekerId);
+        }
+        for (int from = 0; from < matched.size(); from += JOB_BATCH_SIZE) {
+            jobAlertMatchRepository.recordSeekerMatches(seekerId,
+                    matched.subList(from, Math.min(from + JOB_BATCH_SIZE, matched.size())));
+        }
+        Instant completedAt = Instant.now();
+        for (JobAlert alert : alerts) {
+            jobAlertRepository.updateBackfillResult(alert.getId(), JobAlert.BACKFILL_DONE,
+                    matchesByAlert.getOrDefault(alert.getId(), Set.of()).size(), completedAt);
+        }
+    }
+
+    private Map<UUID, Set<UUID>> scanOpenJobs(List<JobAlert> alerts) {
+        Map<UUID, Set<UUID>> matches = new HashMap<>();
+        List<JobMatchView> chunk = new ArrayList<>(JOB_BATCH_SIZE);
+        try (Stream<JobMatchView> jobs = jobRepository.streamListedJobMatchViews()) {
+            Iterator<JobMatchView> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == JOB_BATCH_SIZE || !iterator.hasNext()) {
+                    jobAlertIndex.findMatchingJobs(alerts, chunk).forEach((alertId, jobIds) -> matches
+                            .computeIfAbsent(alertId, id -> new LinkedHashSet<>())
+                            .addAll(jobIds));
+                    chunk.clear();
+                }
+            }
+        }
+        return matches;
+    }
+}
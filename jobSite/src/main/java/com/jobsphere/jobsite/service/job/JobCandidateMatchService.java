@@ -0,0 +1,152 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.repository.job.JobCandidateMatchRepository;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.service.job.SeekerTermIndex.ScoredCandidate;
+import com.jobsphere.jobsite.service.seeker.SeekerProfileChangedEvent;
+import com.jobsphere.jobsite.utils.TextUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maintains job_candidate_matches so the recommended-candidates tab is an indexed
+ * read. A posted or edited job has its top candidates recomputed in the
+ * background; a seeker whose skills or sectors change is rescored only against
+ * the jobs they are ranked for or could now enter.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobCandidateMatchService {
+    private static final int JOB_BATCH_SIZE = 200;
+
+    private final JobCandidateMatchRepository jobCandidateMatchRepository;
+    private final JobRepository jobRepository;
+    private final SeekerSkillRepository seekerSkillRepository;
+    private final SeekerSectorRepository seekerSectorRepository;
+    private final SeekerTermIndex seekerTermIndex;
+    private final JobTermIndex jobTermIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobsphere.jobs.candidates.top-n:50}")
+    private int topN;
+
+    @Value("${jobsphere.jobs.candidates.max-jobs-per-seeker:200}")
+    private int maxJobsPerSeeker;
+
+    // Listed jobs never scored (first start, or jobs missed while a node was down); a job whose
+    // candidates were computed is marked even when nobody matched, so a restart does not revisit it
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissing() {
+        int jobs = 0;
+        UUID after = new UUID(0L, 0L);
+        List<UUID> batch;
+        do {
+            UUID from = after;
+            batch = transactionTemplate.execute(
+                    status -> jobCandidateMatchRepository.findUnscoredListedJobIdsAfter(from, JOB_BATCH_SIZE));
+            batch.forEach(this::rescoreJob);
+            jobs += batch.size();
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == JOB_BATCH_SIZE);
+        log.info("Backfilled candidate matches for {} jobs", jobs);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.listed()) {
+            transactionTemplate.executeWithoutResult(
+                    status -> jobCandidateMatchRepository.deleteByJobId(event.jobId()));
+            return;
+        }
+        rescoreJob(event.jobId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeekerProfileChanged(SeekerProfileChangedEvent event) {
+        rescoreSeeker(event.seekerId());
+    }
+
+    public void rescoreJob(UUID jobId) {
+        Job job = transactionTemplate.execute(status -> jobRepository.findById(jobId).orElse(null));
+        if (job == null)
+            return;
+        seekerTermIndex.ensureLoaded();
+        List<ScoredCandidate> candidates = seekerTermIndex.findCandidates(job, topN);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobCandidateMatchRepository.deleteByJobId(jobId);
+            candidates.forEach(candidate ->
+                    jobCandidateMatchRepository.upsert(jobId, candidate.seekerId(), candidate.score()));
+            jobCandidateMatchRepository.markCandidatesScored(jobId);
+        });
+    }
+
+    // A new or raised score is upserted and the job trimmed back to its top N. Where the seeker's score
+    // fell, the job is rescored in full so the next-best candidate can take the place they gave up.
+    public void rescoreSeeker(UUID seekerId) {
+        Map<String, Float> query = new HashMap<>();
+        Map<UUID, Integer> previousScores = new HashMap<>();
+        Set<UUID> jobIds = new LinkedHashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            seekerSkillRepository.findBySeekerId(seekerId)
+                    .forEach(skill -> TextUtils.terms(skill.getSkill()).forEach(term -> query.put(term, 1f)));
+            seekerSectorRepository.findBySeekerId(seekerId)
+                    .forEach(sector -> TextUtils.terms(sector.getSector()).forEach(term -> query.put(term, 1f)));
+            jobCandidateMatchRepository.findBySeekerId(seekerId)
+                    .forEach(match -> previousScores.put(match.getJobId(), match.getScore()));
+        });
+        jobIds.addAll(previousScores.keySet());
+        jobTermIndex.ensureLoaded();
+        seekerTermIndex.ensureLoaded();
+        jobTermIndex.topJobs(query, maxJobsPerSeeker).jobs().forEach(job -> jobIds.add(job.jobId()));
+
+        List<UUID> demoted = new ArrayList<>();
+        Integer ranked = transactionTemplate.execute(status -> {
+            List<UUID> scored = new ArrayList<>();
+            for (Job job : jobRepository.findAllById(jobIds)) {
+                if (!Boolean.TRUE.equals(job.getIsActive())
+                        || !("OPEN".equals(job.getStatus()) || "HIRED".equals(job.getStatus())))
+                    continue;
+                int score = seekerTermIndex.score(seekerTermIndex.jobTerms(job), seekerId);
+                Integer previous = previousScores.get(job.getId());
+                if (previous != null && score < previous) {
+                    demoted.add(job.getId());
+                } else if (score > 0) {
+                    jobCandidateMatchRepository.upsert(job.getId(), seekerId, score);
+                    scored.add(job.getId());
+                }
+            }
+            if (!scored.isEmpty()) {
+                jobCandidateMatchRepository.trimToTop(scored, topN);
+            }
+            return scored.size();
+        });
+        demoted.forEach(this::rescoreJob);
+        log.debug("Rescored seeker {} against {} jobs, scoring on {}, rescoring {} where they dropped",
+                seekerId, jobIds.size(), ranked, demoted.size());
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.ListedJobView;
+import com.jobsphere.jobsite.model.job.Job;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Snapshot of a job after a create/update/status change, published so in-memory
+ * job indexes can follow the public listing without re-reading the table.
+ */
+public record JobChangedEvent(
+        UUID jobId,
+        String title,
+        UUID companyProfileId,
+        String companyName,
+        String category,
+        String jobType,
+        String workplaceType,
+        String city,
+        String region,
+        Instant createdAt,
+        boolean listed) {
+
+    public static JobChangedEvent listed(ListedJobView job) {
+        return new JobChangedEvent(job.id(), job.title(), job.companyProfileId(), job.companyName(), job.category(),
+                job.jobType(), job.workplaceType(), job.city(), job.region(), job.createdAt(), true);
+    }
+
+    /**
+     * Whether the job is on the public listing; same rule as JobRepository.LISTED_JOB.
+     */
+    public static boolean isListed(Job job) {
+        return Boolean.TRUE.equals(job.getIsActive())
+                && ("OPEN".equals(job.getStatus()) || "HIRED".equals(job.getStatus()));
+    }
+
+    public static JobChangedEvent from(Job job) {
+        return new JobChangedEvent(
+                job.getId(),
+                job.getTitle(),
+                job.getCompanyProfile().getId(),
+                job.getCompanyProfile().getCompanyName(),
+                job.getCategory(),
+                job.getJobType(),
+                job.getWorkplaceType(),
+                job.getAddress() != null ? job.getAddress().getCity() : null,
+                job.getAddress() != null ? job.getAddress().getRegion() : null,
+                job.getCreatedAt(),
+                isListed(job));
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobsphere.jobsite.dto.job.JobResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache for the public job detail view. Concurrent misses for
+ * the same job wait on a single load instead of each hitting the database.
+ */
+@Component
+public class JobDetailCache {
+    private final Cache<UUID, JobResponse> cache;
+
+    public JobDetailCache(
+            @Value("${jobsphere.jobs.detail-cache.max-size:10000}") long maxSize,
+            @Value("${jobsphere.jobs.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // A null result (job not found) is not cached
+    public JobResponse get(UUID jobId, Function<UUID, JobResponse> loader) {
+        return cache.get(jobId, loader);
+    }
+
+    public void invalidate(UUID jobId) {
+        cache.invalidate(jobId);
+        // Evict again once the writing transaction ends, so a read that raced the
+        // commit cannot leave the pre-update view cached until the TTL expires
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(jobId);
+                }
+            });
+        }
+    }
+}
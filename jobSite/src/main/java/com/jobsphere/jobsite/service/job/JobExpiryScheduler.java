@@ -0,0 +1,65 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Closes listed jobs (open or hired) whose deadline has passed. Jobs are closed in
+ * bounded chunks, one transaction per chunk, with the same side effects as a manual
+ * deactivation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobExpiryScheduler {
+    private final JobRepository jobRepository;
+    private final JobDetailCache jobDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${jobsphere.jobs.expiry.chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${jobsphere.jobs.expiry.interval-ms:900000}",
+            fixedDelayString = "${jobsphere.jobs.expiry.interval-ms:900000}")
+    public void expireJobs() {
+        // A job is open through its deadline day
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int expired;
+        do {
+            expired = expireChunk(today);
+            total += expired;
+        } while (expired == chunkSize);
+        if (total > 0) {
+            log.info("Closed {} jobs past their deadline", total);
+        }
+    }
+
+    private int expireChunk(LocalDate today) {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<UUID> jobIds = jobRepository.lockJobsPastDeadline(today, chunkSize);
+            if (jobIds.isEmpty()) {
+                return 0;
+            }
+            jobRepository.closeJobs(jobIds);
+            // Reloaded after the update, so the events carry the closed state; listeners run after commit
+            jobRepository.findWithCompanyProfileAndAddressByIdIn(jobIds).forEach(job -> {
+                jobDetailCache.invalidate(job.getId());
+                eventPublisher.publishEvent(JobChangedEvent.from(job));
+            });
+            return jobIds.size();
+        });
+        return expired != null ? expired : 0;
+    }
+}
@@ -0,0 +1,270 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobFacetsResponse;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.TextUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index over the publicly listed jobs. Every facet value owns a bitset of
+ * job slots, so filter counts are bitset intersections instead of GROUP BY queries.
+ * Counts are disjunctive: a facet's own filter is ignored when counting its values.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFacetIndex {
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet listed = new BitSet();
+    private final Facet categories = new Facet(false);
+    private final Facet jobTypes = new Facet(false);
+    private final Facet workplaceTypes = new Facet(false);
+    private final Facet cities = new Facet(true);
+    private final Facet regions = new Facet(true);
+    private int nextSlot;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${jobsphere.jobs.facets.refresh-interval-ms:600000}",
+            fixedDelayString = "${jobsphere.jobs.facets.refresh-interval-ms:600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        List<JobChangedEvent> jobs = changes.rebuild(this::readListedJobs, this::install);
+        log.info("Job facet index rebuilt with {} listed jobs", jobs.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        changes.apply(() -> {
+            remove(event.jobId());
+            if (event.listed()) {
+                insert(event);
+            }
+        });
+    }
+
+    public JobFacetsResponse facets(String category, String jobType, String workplaceType, String location) {
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readListedJobs, this::install);
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet categoryFilter = categories.filter(category);
+            BitSet jobTypeFilter = jobTypes.filter(jobType);
+            BitSet workplaceFilter = workplaceTypes.filter(workplaceType);
+            BitSet locationFilter = locationFilter(location);
+
+            return new JobFacetsResponse(
+                    intersect(categoryFilter, jobTypeFilter, workplaceFilter, locationFilter).cardinality(),
+                    categories.counts(intersect(jobTypeFilter, workplaceFilter, locationFilter)),
+                    jobTypes.counts(intersect(categoryFilter, workplaceFilter, locationFilter)),
+                    workplaceTypes.counts(intersect(categoryFilter, jobTypeFilter, locationFilter)),
+                    cities.counts(intersect(categoryFilter, jobTypeFilter, workplaceFilter)),
+                    regions.counts(intersect(categoryFilter, jobTypeFilter, workplaceFilter)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Distinct categories of the listed jobs, as stored on the job
+    public Set<String> listedCategories() {
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readListedJobs, this::install);
+        }
+
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(categories.storedValues.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<JobChangedEvent> readListedJobs() {
+        return transactionTemplate.execute(status -> jobRepository.findListedJobSnapshots()
+                .stream()
+                .map(JobChangedEvent::listed)
+                .toList());
+    }
+
+    private void install(List<JobChangedEvent> jobs) {
+        slots.clear();
+        freeSlots.clear();
+        listed.clear();
+        categories.clear();
+        jobTypes.clear();
+        workplaceTypes.clear();
+        cities.clear();
+        regions.clear();
+        nextSlot = 0;
+        jobs.forEach(this::insert);
+    }
+
+    // Mirrors the listing query: the location filter matches either the city or the region
+    private BitSet locationFilter(String location) {
+        BitSet byCity = cities.filter(location);
+        if (byCity == null) {
+            return null;
+        }
+        BitSet matches = (BitSet) byCity.clone();
+        matches.or(regions.filter(location));
+        return matches;
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) listed.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private void insert(JobChangedEvent job) {
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            slot = nextSlot++;
+        }
+        slots.put(job.jobId(), slot);
+        listed.set(slot);
+        categories.add(slot, job.category());
+        jobTypes.add(slot, job.jobType());
+        workplaceTypes.add(slot, job.workplaceType());
+        cities.add(slot, job.city());
+        regions.add(slot, job.region());
+    }
+
+    private void remove(UUID jobId) {
+        Integer slot = slots.remove(jobId);
+        if (slot == null) {
+            return;
+        }
+        listed.clear(slot);
+        categories.remove(slot);
+        jobTypes.remove(slot);
+        workplaceTypes.remove(slot);
+        cities.remove(slot);
+        regions.remove(slot);
+        freeSlots.push(slot);
+    }
+
+    private static final class Facet {
+        private static final BitSet NONE = new BitSet();
+
+        private final boolean locationKeyed;
+        private final Map<String, BitSet> postings = new HashMap<>();
+        private final Map<String, String> labels = new HashMap<>();
+        // Values exactly as stored on the jobs, with the number of jobs holding each
+        private final Map<String, Integer> storedValues = new HashMap<>();
+        private final Map<Integer, String> valuesBySlot = new HashMap<>();
+
+        Facet(boolean locationKeyed) {
+            this.locationKeyed = locationKeyed;
+        }
+
+        void add(int slot, String value) {
+            String key = key(value);
+            if (key == null) {
+                return;
+            }
+            postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+            labels.putIfAbsent(key, value.trim());
+            storedValues.merge(value, 1, Integer::sum);
+            valuesBySlot.put(slot, value);
+        }
+
+        void remove(int slot) {
+            String value = valuesBySlot.remove(slot);
+            if (value == null) {
+                return;
+            }
+            storedValues.computeIfPresent(value, (stored, count) -> count > 1 ? count - 1 : null);
+            String key = key(value);
+            BitSet bits = postings.get(key);
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+                labels.remove(key);
+            }
+        }
+
+        // null means "no filter"; an unknown value matches nothing
+        BitSet filter(String value) {
+            String key = key(value);
+            if (key == null) {
+                return null;
+            }
+            return postings.getOrDefault(key, NONE);
+        }
+
+        Map<String, Integer> counts(BitSet base) {
+            List<Map.Entry<String, Integer>> counts = new ArrayList<>(postings.size());
+            for (Map.Entry<String, BitSet> posting : postings.entrySet()) {
+                BitSet matches = (BitSet) posting.getValue().clone();
+                matches.and(base);
+                int count = matches.cardinality();
+                if (count > 0) {
+                    counts.add(Map.entry(labels.get(posting.getKey()), count));
+                }
+            }
+            counts.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Integer> result = new LinkedHashMap<>();
+            counts.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+            return result;
+        }
+
+        void clear() {
+            postings.clear();
+            labels.clear();
+            storedValues.clear();
+            valuesBySlot.clear();
+        }
+
+        private String key(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return locationKeyed ? TextUtils.normalizeKey(value) : value.trim();
+        }
+    }
+}
@@ -3,237 +3,210 @@ package com.jobsphere.jobsite.service.job;
 import com.jobsphere.jobsite.dto.job.JobResponse;
 import com.jobsphere.jobsite.dto.seeker.FullProfileResponse;
 import com.jobsphere.jobsite.model.job.Job;
-import com.jobsphere.jobsite.model.seeker.JobAlert;
-import com.jobsphere.jobsite.model.seeker.SeekerSector;
-import com.jobsphere.jobsite.model.seeker.SeekerSkill;
+import com.jobsphere.jobsite.repository.job.JobCandidateMatchRepository;
 import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertMatchRepository;
 import com.jobsphere.jobsite.repository.seeker.*;
+import com.jobsphere.jobsite.service.job.JobTermIndex.ScoredJob;
+import com.jobsphere.jobsite.service.job.JobTermIndex.TopJobs;
 import com.jobsphere.jobsite.service.seeker.SeekerService;
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+import com.jobsphere.jobsite.utils.TextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobMatchingService {
+    // Query term weights by where the term appears in the seeker's profile
+    private static final float SKILL_WEIGHT = 2.0f;
+    private static final float SECTOR_WEIGHT = 1.5f;
+    private static final float BIO_TITLE_WEIGHT = 1.5f;
+    private static final float TAG_WEIGHT = 1.0f;
+    private static final float BIO_WEIGHT = 0.5f;
+    private static final int MAX_RECOMMENDED_CANDIDATES = 15;
+    private static final int MAX_SIMILAR_RESULTS = 100;
+    // Shorter skills ("go", "ui", "sql") would match stray words in any description
+    private static final int MIN_MATCHED_SKILL_LENGTH = 4;
+    // Quotes and operators would change the meaning of the websearch query the skills are joined into
+    private static final Pattern SKILL_QUERY_SYNTAX = Pattern.compile("[\"\\-]");
+
     private final JobRepository jobRepository;
-    private final JobAlertRepository jobAlertRepository;
+    private final JobAlertMatchRepository jobAlertMatchRepository;
+    private final JobCandidateMatchRepository jobCandidateMatchRepository;
     private final SeekerService seekerService;
     private final JobService jobService;
     private final SeekerSkillRepository seekerSkillRepository;
     private final SeekerSectorRepository seekerSectorRepository;
-
+    private final SeekerTagRepository seekerTagRepository;
+    private final SeekerBioRepository seekerBioRepository;
+    private final JobTermIndex jobTermIndex;
+    private final SeekerTermIndex seekerTermIndex;
+    private final ProfileVectorIndex profileVectorIndex;
+    private final SeekerAnnIndex seekerAnnIndex;
+    private final JobFacetIndex jobFacetIndex;
+    private final CategoryTaxonomy categoryTaxonomy;
+
+    // Recommendations are ranked in memory, so only this many can be paged through
+    @Value("${jobsphere.jobs.recommend.max-results:200}")
+    private int maxRecommendations;
+
+    // Alert matches are precomputed into job_alert_matches; profile matches by sector and skill are
+    // resolved in the same paged query, with related categories taken from the in-memory facet index
     @Transactional(readOnly = true)
-    public List<JobResponse> getMatchedJobsForSeeker(UUID userId) {
-        List<JobAlert> alerts = jobAlertRepository.findBySeekerId(userId);
-
-        // Fetch seeker sectors and skills for profile-based matching
-        List<String> seekerSectors = seekerSectorRepository.findBySeekerId(userId).stream()
-                .map(SeekerSector::getSector)
-                .filter(Objects::nonNull)
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
-
-        List<String> seekerSkills = seekerSkillRepository.findBySeekerId(userId).stream()
-                .map(SeekerSkill::getSkill)
-                .filter(Objects::nonNull)
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
-
-        List<Job> activeJobs = jobRepository.findByIsActiveTrue().stream()
-                .filter(j -> "OPEN".equals(j.getStatus()))
-                .collect(Collectors.toList());
-
-        Set<Job> matchedJobs = new HashSet<>();
-
-        // 1. Matches from Alerts
-        for (JobAlert alert : alerts) {
-            if (!alert.getIsActive())
-                continue;
-
-            for (Job job : activeJobs) {
-                if (isMatch(job, alert)) {
-                    matchedJobs.add(job);
-                }
-            }
+    public Slice<JobResponse> getMatchedJobsForSeeker(UUID userId, Pageable pageable) {
+        Slice<UUID> jobIds = jobAlertMatchRepository.findMatchedJobIds(userId, sectorCategories(userId),
+                skillQuery(userId), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (jobIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        // 2. Matches from Profile (as supplementary)
-        for (Job job : activeJobs) {
-            if (matchedJobs.contains(job))
-                continue;
-
-            // Match by sector (fuzzy)
-            if (job.getCategory() != null) {
-                boolean sectorMatch = false;
-                for (String sector : seekerSectors) {
-                    if (isCategoryRelated(sector, job.getCategory())) {
-                        sectorMatch = true;
-                        break;
-                    }
-                }
-                if (sectorMatch) {
-                    matchedJobs.add(job);
-                    continue;
-                }
-            }
-
-            // Match by skills (if skill keyword is in title or description)
-            for (String skill : seekerSkills) {
-                if (skill.length() > 3 && ((job.getTitle() != null && job.getTitle().toLowerCase().contains(skill)) ||
-                        (job.getDescription() != null && job.getDescription().toLowerCase().contains(skill)))) {
-                    matchedJobs.add(job);
-                    break;
-                }
-            }
-        }
-
-        return matchedJobs.stream()
-                .map(jobService::mapToResponse)
-                .sorted(Comparator.comparing(JobResponse::createdAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                .collect(Collectors.toList());
+        Map<UUID, Job> jobsById = jobRepository.findWithCompanyProfileAndAddressByIdIn(jobIds.getContent())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = jobIds.getContent().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SliceImpl<>(jobService.mapToResponses(jobs), pageable, jobIds.hasNext());
     }
 
-    @Transactional(readOnly = true)
-    public List<FullProfileResponse> getRecommendedCandidates(UUID jobId) {
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        String jobCategory = job.getCategory();
-        String jobTitle = job.getTitle() != null ? job.getTitle().toLowerCase() : "";
-        String jobDesc = job.getDescription() != null ? job.getDescription().toLowerCase() : "";
-
-        // Extract tags/keywords from job
-        Set<String> jobKeywords = new HashSet<>();
-        if (job.getTitle() != null)
-            jobKeywords.addAll(Arrays.asList(job.getTitle().toLowerCase().split("\\s+")));
-        if (job.getExperienceDescription() != null) {
-            jobKeywords.addAll(Arrays.asList(job.getExperienceDescription().toLowerCase().split(",\\s*")));
+    // Listed job categories related to any of the seeker's sectors
+    private String[] sectorCategories(UUID userId) {
+        List<Integer> sectorIds = seekerSectorRepository.findBySeekerId(userId).stream()
+                .map(sector -> categoryTaxonomy.categoryId(sector.getSector()))
+                .filter(id -> id != CategoryTaxonomy.NONE)
+                .toList();
+        if (sectorIds.isEmpty()) {
+            return new String[0];
         }
-
-        // Fetch candidates matching sector
-        List<UUID> candidateIds = new ArrayList<>();
-
-        seekerSectorRepository.findAll().stream()
-                .filter(s -> isCategoryRelated(s.getSector(), jobCategory))
-                .map(s -> s.getSeeker().getId())
-                .forEach(candidateIds::add);
-
-        // Fetch candidates matching skills
-        seekerSkillRepository.findAll().stream()
-                .filter(s -> {
-                    String skill = s.getSkill() != null ? s.getSkill().toLowerCase() : "";
-                    if (skill.length() < 3)
-                        return false;
-
-                    // Skill in job title or description
-                    if (jobTitle.contains(skill) || jobDesc.contains(skill))
-                        return true;
-
-                    // Job keywords in skill
-                    for (String kw : jobKeywords) {
-                        if (kw.length() > 3 && skill.contains(kw))
-                            return true;
-                    }
-                    return false;
+        return jobFacetIndex.listedCategories().stream()
+                .filter(category -> {
+                    int categoryId = categoryTaxonomy.categoryId(category);
+                    return sectorIds.stream().anyMatch(sectorId -> categoryTaxonomy.related(sectorId, categoryId));
                 })
-                .map(s -> s.getSeeker().getId())
-                .forEach(id -> {
-                    if (!candidateIds.contains(id))
-                        candidateIds.add(id);
-                });
+                .toArray(String[]::new);
+    }
 
-        return candidateIds.stream()
+    // The seeker's skills as quoted phrases OR-ed into one websearch query; null when there are none
+    private String skillQuery(UUID userId) {
+        String query = seekerSkillRepository.findBySeekerId(userId).stream()
+                .map(skill -> TextUtils.normalizeKey(SKILL_QUERY_SYNTAX.matcher(skill.getSkill()).replaceAll(" ")))
+                .filter(skill -> skill != null && skill.length() >= MIN_MATCHED_SKILL_LENGTH)
                 .distinct()
-                .limit(15)
-                .map(seekerService::getFullProfileById)
-                .collect(Collectors.toList());
+                .map(skill -> '"' + skill + '"')
+                .collect(Collectors.joining(" or "));
+        return query.isEmpty() ? null : query;
     }
 
-    private boolean isMatch(Job job, JobAlert alert) {
-        // 1. Category match (more lenient)
-        if (alert.getCategory() != null && !alert.getCategory().isEmpty()) {
-            String alertCat = alert.getCategory();
-            String jobCat = job.getCategory();
-
-            if (jobCat != null) {
-                boolean match = alertCat.equalsIgnoreCase(jobCat) ||
-                        isCategoryRelated(alertCat, jobCat);
-                if (!match)
-                    return false;
-            }
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getRecommendedJobsForSeeker(UUID userId, Pageable pageable) {
+        Map<String, Float> query = new HashMap<>();
+        seekerSkillRepository.findBySeekerId(userId)
+                .forEach(skill -> addQueryTerms(query, skill.getSkill(), SKILL_WEIGHT));
+        seekerSectorRepository.findBySeekerId(userId)
+                .forEach(sector -> addQueryTerms(query, sector.getSector(), SECTOR_WEIGHT));
+        seekerTagRepository.findBySeekerId(userId)
+                .forEach(tag -> addQueryTerms(query, tag.getTag(), TAG_WEIGHT));
+        seekerBioRepository.findBySeekerId(userId).ifPresent(bio -> {
+            addQueryTerms(query, bio.getTitle(), BIO_TITLE_WEIGHT);
+            addQueryTerms(query, bio.getBio(), BIO_WEIGHT);
+        });
+
+        long offset = pageable.getOffset();
+        if (offset >= maxRecommendations) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
-
-        // 2. Job Type match
-        if (alert.getJobType() != null && !alert.getJobType().isEmpty()) {
-            if (!alert.getJobType().equalsIgnoreCase(job.getJobType()))
-                return false;
+        TopJobs top = jobTermIndex.topJobs(query, (int) Math.min(offset + pageable.getPageSize(), maxRecommendations));
+        long total = Math.min(top.totalMatches(), maxRecommendations);
+        if (offset >= top.jobs().size()) {
+            return new PageImpl<>(List.of(), pageable, total);
         }
 
-        // 3. Location match
-        if (alert.getPreferredLocation() != null && !alert.getPreferredLocation().isEmpty()) {
-            String jobCity = job.getAddress() != null ? job.getAddress().getCity() : "";
-            String jobRegion = job.getAddress() != null ? job.getAddress().getRegion() : "";
-            boolean cityMatch = jobCity != null
-                    && jobCity.toLowerCase().contains(alert.getPreferredLocation().toLowerCase());
-            boolean regionMatch = jobRegion != null
-                    && jobRegion.toLowerCase().contains(alert.getPreferredLocation().toLowerCase());
-            if (!cityMatch && !regionMatch)
-                return false;
-        }
+        List<UUID> jobIds = top.jobs().subList((int) offset, top.jobs().size()).stream()
+                .map(ScoredJob::jobId)
+                .toList();
+        Map<UUID, Job> jobsById = jobRepository.findWithCompanyProfileAndAddressByIdIn(jobIds)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return jobService.mapToResponses(new PageImpl<>(jobs, pageable, total));
+    }
 
-        // 4. Keyword match
-        if (alert.getKeywords() != null && !alert.getKeywords().isEmpty()) {
-            String[] keywords = alert.getKeywords().split(",");
-            boolean keywordMatched = false;
-            for (String kw : keywords) {
-                String cleanKw = kw.trim().toLowerCase();
-                if (cleanKw.isEmpty())
-                    continue;
-                if ((job.getTitle() != null && job.getTitle().toLowerCase().contains(cleanKw)) ||
-                        (job.getDescription() != null && job.getDescription().toLowerCase().contains(cleanKw))) {
-                    keywordMatched = true;
+    // A term repeated across the profile keeps its strongest weight rather than adding up
+    private void addQueryTerms(Map<String, Float> query, String text, float weight) {
+        TextUtils.terms(text).forEach(term -> query.merge(term, weight, Math::max));
+    }
+
+    // Candidates are precomputed into job_candidate_matches and topped up with the nearest profiles
+    // from the ANN graph; a job posted moments ago is scored on demand. ef tunes ANN recall vs latency.
+    @Transactional(readOnly = true)
+    public List<FullProfileResponse> getRecommendedCandidates(UUID jobId, Integer ef) {
+        Set<UUID> seekerIds = new LinkedHashSet<>(jobCandidateMatchRepository.findTopSeekerIds(jobId,
+                PageRequest.of(0, MAX_RECOMMENDED_CANDIDATES)));
+        if (seekerIds.size() < MAX_RECOMMENDED_CANDIDATES && seekerAnnIndex.isReady()) {
+            for (Match match : seekerAnnIndex.topCandidates(jobId, MAX_RECOMMENDED_CANDIDATES, ef)) {
+                if (seekerIds.size() == MAX_RECOMMENDED_CANDIDATES)
                     break;
-                }
+                seekerIds.add(match.id());
             }
-            if (!keywordMatched)
-                return false;
         }
+        if (seekerIds.isEmpty()) {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            seekerTermIndex.findCandidates(job, MAX_RECOMMENDED_CANDIDATES)
+                    .forEach(candidate -> seekerIds.add(candidate.seekerId()));
+        }
+        return seekerService.getFullProfilesByIds(new ArrayList<>(seekerIds));
+    }
 
-        return true;
+    // Nearest profiles by cosine similarity of hashed feature vectors, from the ANN graph once it is built
+    @Transactional(readOnly = true)
+    public List<FullProfileResponse> getSimilarCandidates(UUID jobId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SIMILAR_RESULTS));
+        List<Match> matches = seekerAnnIndex.isReady()
+                ? seekerAnnIndex.topCandidates(jobId, size, null)
+                : profileVectorIndex.topCandidates(jobId, size);
+        List<UUID> seekerIds = matches.stream()
+                .map(Match::id)
+                .toList();
+        return seekerService.getFullProfilesByIds(seekerIds);
     }
 
-    private boolean isCategoryRelated(String alertCat, String jobCat) {
-        String a = alertCat.toLowerCase();
-        String j = jobCat.toLowerCase();
-
-        // Technology Mapping
-        if ((a.contains("tech") || a.contains("it")) && j.equals("technology"))
-            return true;
-        // Marketing/Sales Mapping
-        if ((a.contains("marketing") || a.contains("sales")) && j.equals("marketing"))
-            return true;
-        // Design Mapping
-        if (a.contains("design") && j.equals("design"))
-            return true;
-        // Healthcare Mapping
-        if (a.contains("health") && j.equals("healthcare"))
-            return true;
-        // Finance Mapping
-        if ((a.contains("finance") || a.contains("banking")) && j.equals("finance"))
-            return true;
-        // Education Mapping
-        if (a.contains("education") && j.equals("education"))
-            return true;
-        // Engineering Mapping
-        if (a.contains("engineering") && j.equals("engineering"))
-            return true;
-
-        return a.contains(j) || j.contains(a);
+    @Transactional(readOnly = true)
+    public List<JobResponse> getSimilarJobsForSeeker(UUID userId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SIMILAR_RESULTS));
+        List<UUID> jobIds = profileVectorIndex.topJobs(userId, size).stream()
+                .map(Match::id)
+                .toList();
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Job> jobsById = jobRepository.findWithCompanyProfileAndAddressByIdIn(jobIds)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> jobs = jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return jobService.mapToResponses(jobs);
     }
 }
@@ -1,41 +1,71 @@
 package com.jobsphere.jobsite.service.job;
 
 import com.jobsphere.jobsite.dto.job.JobCreateRequest;
+import com.jobsphere.jobsite.dto.job.JobFacetsResponse;
+import com.jobsphere.jobsite.dto.job.JobListingPage;
 import com.jobsphere.jobsite.dto.job.JobResponse;
+import com.jobsphere.jobsite.dto.job.JobSuggestionResponse;
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
 import com.jobsphere.jobsite.dto.job.JobUpdateRequest;
+import com.jobsphere.jobsite.dto.shared.CursorPageResponse;
 import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import com.jobsphere.jobsite.model.employer.CompanyProfile;
 import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.notification.JobAlertOutbox;
 import com.jobsphere.jobsite.model.shared.Address;
+import com.jobsphere.jobsite.model.shared.LocationHierarchy;
 import com.jobsphere.jobsite.repository.employer.CompanyProfileRepository;
 import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertOutboxRepository;
 import com.jobsphere.jobsite.repository.shared.AddressRepository;
+import com.jobsphere.jobsite.repository.shared.LocationHierarchyRepository;
 import com.jobsphere.jobsite.repository.application.ApplicationRepository;
-import com.jobsphere.jobsite.repository.seeker.JobAlertRepository;
-import com.jobsphere.jobsite.service.notification.NotificationService;
 import com.jobsphere.jobsite.service.shared.AuthenticationService;
+import com.jobsphere.jobsite.utils.TextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JobService {
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final JobRepository jobRepository;
     private final CompanyProfileRepository companyProfileRepository;
     private final AddressRepository addressRepository;
+    private final LocationHierarchyRepository locationHierarchyRepository;
     private final AuthenticationService authenticationService;
     private final ApplicationRepository applicationRepository;
-    private final JobAlertRepository jobAlertRepository;
-    private final NotificationService notificationService;
+    private final JobAlertOutboxRepository jobAlertOutboxRepository;
+    private final JobFacetIndex jobFacetIndex;
+    private final JobSuggestIndex jobSuggestIndex;
+    private final JobDetailCache jobDetailCache;
+    private final SalaryNormalizer salaryNormalizer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public JobResponse createJob(JobCreateRequest request) {
@@ -51,12 +81,14 @@ public class JobService {
             address = addressRepository.findById(request.addressId())
                     .orElseThrow(() -> new ResourceNotFoundException("Address not found"));
         } else if (request.country() != null) {
-            address = Address.builder()
-                    .country(request.country())
-                    .region(request.region())
-                    .createdAt(Instant.now())
-                    .build();
-            address = addressRepository.save(address);
+            // Reuse an existing region-level address instead of inserting one per job
+            address = addressRepository.findShareableRegionAddress(
+                    TextUtils.normalizeKey(request.country()), TextUtils.normalizeKey(request.region()))
+                    .orElseGet(() -> addressRepository.save(Address.builder()
+                            .country(request.country())
+                            .region(request.region())
+                            .createdAt(Instant.now())
+                            .build()));
         }
 
         Job job = Job.builder()
@@ -79,131 +111,148 @@ public class JobService {
                 .deadline(request.deadline())
                 .isActive(true)
                 .build();
+        salaryNormalizer.apply(job);
 
         job = jobRepository.save(job);
         log.info("Job created: {} for company {}", job.getId(), companyProfile.getCompanyName());
 
-        // Notify matching seekers
-        final Job savedJob = job;
-        jobAlertRepository.findByIsActiveTrue().stream()
-                .filter(alert -> isMatch(savedJob, alert))
-                .forEach(alert -> notificationService.notifyJobAlertMatch(
-                        alert.getSeeker().getId(),
-                        savedJob.getTitle(),
-                        companyProfile.getCompanyName()));
+        // Matching seekers are notified by JobAlertDispatcher once this transaction commits
+        jobAlertOutboxRepository.save(JobAlertOutbox.builder()
+                .jobId(job.getId())
+                .eventType(JobAlertOutbox.JOB_POSTED)
+                .build());
+        eventPublisher.publishEvent(JobChangedEvent.from(job));
 
         return mapToResponse(job);
     }
 
-    private boolean isMatch(Job job, com.jobsphere.jobsite.model.seeker.JobAlert alert) {
-        // 1. Category match (more lenient)
-        if (alert.getCategory() != null && !alert.getCategory().isEmpty()) {
-            String alertCat = alert.getCategory();
-            String jobCat = job.getCategory();
-
-            if (jobCat != null) {
-                boolean match = alertCat.equalsIgnoreCase(jobCat) ||
-                        isCategoryRelated(alertCat, jobCat);
-                if (!match)
-                    return false;
-            }
-        }
+    @Transactional(readOnly = true)
+    public Page<JobResponse> getEmployerJobs(Pageable pageable) {
+        UUID userId = authenticationService.getCurrentUserId();
+        CompanyProfile companyProfile = companyProfileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
 
-        // 2. Job Type match
-        if (alert.getJobType() != null && !alert.getJobType().isEmpty()) {
-            if (!alert.getJobType().equalsIgnoreCase(job.getJobType()))
-                return false;
-        }
-
-        // 3. Location match
-        if (alert.getPreferredLocation() != null && !alert.getPreferredLocation().isEmpty()) {
-            String jobCity = job.getAddress() != null ? job.getAddress().getCity() : "";
-            String jobRegion = job.getAddress() != null ? job.getAddress().getRegion() : "";
-            boolean cityMatch = jobCity != null
-                    && jobCity.toLowerCase().contains(alert.getPreferredLocation().toLowerCase());
-            boolean regionMatch = jobRegion != null
-                    && jobRegion.toLowerCase().contains(alert.getPreferredLocation().toLowerCase());
-            if (!cityMatch && !regionMatch)
-                return false;
-        }
-
-        // 4. Keyword match
-        if (alert.getKeywords() != null && !alert.getKeywords().isEmpty()) {
-            String[] keywords = alert.getKeywords().split(",");
-            boolean keywordMatched = false;
-            for (String kw : keywords) {
-                String cleanKw = kw.trim().toLowerCase();
-                if (cleanKw.isEmpty())
-                    continue;
-                if ((job.getTitle() != null && job.getTitle().toLowerCase().contains(cleanKw)) ||
-                        (job.getDescription() != null && job.getDescription().toLowerCase().contains(cleanKw))) {
-                    keywordMatched = true;
-                    break;
-                }
-            }
-            if (!keywordMatched)
-                return false;
-        }
+        return mapToResponses(jobRepository.findByCompanyProfileId(companyProfile.getId(), pageable));
+    }
 
-        return true;
+    @Transactional(readOnly = true)
+    public Page<JobResponse> listJobs(String q, String category, String jobType, String workplaceType,
+            String location, BigDecimal minSalary, BigDecimal maxSalary, String salarySort, boolean includeFacets,
+            Pageable pageable) {
+        log.info("Fetching jobs with filters - q: {}, category: {}, type: {}, workplace: {}, location: {}, salary: {}-{}",
+                q, category, jobType, workplaceType, location, minSalary, maxSalary);
+        LocationFilter where = locationFilter(location);
+        Page<Job> jobs;
+        if (StringUtils.hasText(q)) {
+            jobs = searchJobs(q.trim(), category, jobType, workplaceType, where, minSalary, maxSalary, pageable);
+        } else if (StringUtils.hasText(salarySort)) {
+            // The salary order is fixed by the query, so only the page window is taken from the request
+            Pageable window = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            jobs = switch (salarySort.trim().toLowerCase(Locale.ROOT)) {
+                case "asc" -> jobRepository.findActiveJobsOrderBySalaryAsc(category, jobType, workplaceType,
+                        where.key(), where.countryKeys(), where.cityKeys(), minSalary, maxSalary, window);
+                case "desc" -> jobRepository.findActiveJobsOrderBySalaryDesc(category, jobType, workplaceType,
+                        where.key(), where.countryKeys(), where.cityKeys(), minSalary, maxSalary, window);
+                default -> throw new IllegalArgumentException("salarySort must be 'asc' or 'desc'");
+            };
+        } else {
+            jobs = jobRepository.findActiveJobsWithFilters(category, jobType, workplaceType, where.key(),
+                    where.countryKeys(), where.cityKeys(), minSalary, maxSalary, pageable);
+        }
+        log.info("Found {} jobs", jobs.getTotalElements());
+        if (!includeFacets) {
+            return mapToResponses(jobs);
+        }
+        // The facet index covers the attribute filters; the text query and salary range do not narrow it
+        return new JobListingPage(mapToResponses(jobs),
+                jobFacetIndex.facets(category, jobType, workplaceType, location));
     }
 
-    private boolean isCategoryRelated(String alertCat, String jobCat) {
-        String a = alertCat.toLowerCase();
-        String j = jobCat.toLowerCase();
-
-        // Technology Mapping
-        if ((a.contains("tech") || a.contains("it")) && j.equals("technology"))
-            return true;
-        // Marketing/Sales Mapping
-        if ((a.contains("marketing") || a.contains("sales")) && j.equals("marketing"))
-            return true;
-        // Design Mapping
-        if (a.contains("design") && j.equals("design"))
-            return true;
-        // Healthcare Mapping
-        if (a.contains("health") && j.equals("healthcare"))
-            return true;
-        // Finance Mapping
-        if ((a.contains("finance") || a.contains("banking")) && j.equals("finance"))
-            return true;
-        // Education Mapping
-        if (a.contains("education") && j.equals("education"))
-            return true;
-        // Engineering Mapping
-        if (a.contains("engineering") && j.equals("engineering"))
-            return true;
-
-        return a.contains(j) || j.contains(a);
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> listJobSummaries(String category, String jobType, String workplaceType,
+            String location, Pageable pageable) {
+        LocationFilter where = locationFilter(location);
+        return jobRepository.findActiveJobSummaries(category, jobType, workplaceType, where.key(),
+                where.countryKeys(), where.cityKeys(), pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<JobResponse> getEmployerJobs(Pageable pageable) {
+    public Page<JobSummaryResponse> getEmployerJobSummaries(Pageable pageable) {
         UUID userId = authenticationService.getCurrentUserId();
         CompanyProfile companyProfile = companyProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
 
-        return jobRepository.findByCompanyProfileId(companyProfile.getId(), pageable)
-                .map(this::mapToResponse);
+        return jobRepository.findJobSummariesByCompanyProfileId(companyProfile.getId(), pageable);
     }
 
-    @Transactional(readOnly = true)
-    public Page<JobResponse> listJobs(String category, String jobType, String workplaceType, String location,
-            Pageable pageable) {
-        log.info("Fetching jobs with filters - category: {}, type: {}, workplace: {}, location: {}",
-                category, jobType, workplaceType, location);
-        Page<Job> jobs = jobRepository.findActiveJobsWithFilters(category, jobType, workplaceType, location, pageable);
-        log.info("Found {} jobs", jobs.getTotalElements());
-        return jobs.map(this::mapToResponse);
+    public JobFacetsResponse getJobFacets(String category, String jobType, String workplaceType, String location) {
+        return jobFacetIndex.facets(category, jobType, workplaceType, location);
+    }
+
+    public List<JobSuggestionResponse> suggest(String q, int limit) {
+        return jobSuggestIndex.suggest(q, limit);
     }
 
     @Transactional(readOnly = true)
+    public CursorPageResponse<JobResponse> getJobFeed(String category, String jobType, String workplaceType,
+            String location, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        // One extra row tells us whether another page exists without running a count
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        LocationFilter where = locationFilter(location);
+
+        List<Job> jobs;
+        if (StringUtils.hasText(cursor)) {
+            FeedCursor after = FeedCursor.decode(cursor);
+            jobs = jobRepository.findActiveJobFeedAfter(category, jobType, workplaceType, where.key(),
+                    where.countryKeys(), where.cityKeys(),
+                    after.createdAt(), after.id(), limit);
+        } else {
+            jobs = jobRepository.findActiveJobFeed(category, jobType, workplaceType, where.key(),
+                    where.countryKeys(), where.cityKeys(), limit);
+        }
+
+        boolean hasNext = jobs.size() > pageSize;
+        if (hasNext) {
+            jobs = jobs.subList(0, pageSize);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Job last = jobs.get(jobs.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(mapToResponses(jobs), nextCursor, hasNext, pageSize);
+    }
+
+    // Results are ordered by relevance, so any client-supplied sort is ignored
+    private Page<Job> searchJobs(String q, String category, String jobType, String workplaceType,
+            LocationFilter where, BigDecimal minSalary, BigDecimal maxSalary, Pageable pageable) {
+        Page<UUID> ids = jobRepository.searchActiveJobIds(q, category, jobType, workplaceType, where.key(),
+                where.countryKeys(), where.cityKeys(), minSalary, maxSalary,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<UUID, Job> jobsById = jobRepository.findWithCompanyProfileAndAddressByIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> ranked = ids.getContent().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ranked, pageable, ids.getTotalElements());
+    }
+
     public JobResponse getJob(UUID jobId) {
-        Job job = jobRepository.findActiveJobWithCompanyProfile(jobId);
-        if (job == null) {
+        JobResponse response = jobDetailCache.get(jobId, id -> transactionTemplate.execute(status -> {
+            Job job = jobRepository.findActiveJobWithCompanyProfile(id);
+            return job != null ? mapToResponse(job) : null;
+        }));
+        if (response == null) {
             throw new ResourceNotFoundException("Job not found");
         }
-        return mapToResponse(job);
+        return response;
     }
 
     @Transactional
@@ -266,9 +315,12 @@ public class JobService {
                     .orElseThrow(() -> new ResourceNotFoundException("Address not found"));
             job.setAddress(address);
         }
+        salaryNormalizer.apply(job);
 
         job = jobRepository.save(job);
         log.info("Job updated: {}", job.getId());
+        jobDetailCache.invalidate(job.getId());
+        eventPublisher.publishEvent(JobChangedEvent.from(job));
 
         return mapToResponse(job);
     }
@@ -287,6 +339,8 @@ public class JobService {
         job.setStatus("CLOSED");
         jobRepository.save(job);
         log.info("Job deactivated: {}", job.getId());
+        jobDetailCache.invalidate(job.getId());
+        eventPublisher.publishEvent(JobChangedEvent.from(job));
     }
 
     @Transactional
@@ -304,6 +358,8 @@ public class JobService {
         job.setStatus(status);
         job = jobRepository.save(job);
         log.info("Job status updated: {} to {}", job.getId(), status);
+        jobDetailCache.invalidate(job.getId());
+        eventPublisher.publishEvent(JobChangedEvent.from(job));
 
         return mapToResponse(job);
     }
@@ -332,7 +388,34 @@ public class JobService {
     }
 
     public JobResponse mapToResponse(Job job) {
-        long applicantCount = applicationRepository.countByJobId(job.getId());
+        return mapToResponse(job, applicationRepository.countByJobId(job.getId()));
+    }
+
+    // Page-level mapping: applicant counts for every job come from a single grouped query
+    public Page<JobResponse> mapToResponses(Page<Job> jobs) {
+        Map<UUID, Long> applicantCounts = countApplicants(jobs.getContent());
+        return jobs.map(job -> mapToResponse(job, applicantCounts.getOrDefault(job.getId(), 0L)));
+    }
+
+    public List<JobResponse> mapToResponses(Collection<Job> jobs) {
+        Map<UUID, Long> applicantCounts = countApplicants(jobs);
+        return jobs.stream()
+                .map(job -> mapToResponse(job, applicantCounts.getOrDefault(job.getId(), 0L)))
+                .toList();
+    }
+
+    private Map<UUID, Long> countApplicants(Collection<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return Map.of();
+        }
+        return applicationRepository.countByJobIds(jobs.stream().map(Job::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(
+                        ApplicationRepository.JobApplicantCount::getJobId,
+                        ApplicationRepository.JobApplicantCount::getApplicantCount));
+    }
+
+    private JobResponse mapToResponse(Job job, long applicantCount) {
         return new JobResponse(
                 job.getId(),
                 job.getCompanyProfile().getId(),
@@ -366,4 +449,44 @@ public class JobService {
                 job.getCreatedAt(),
                 job.getUpdatedAt());
     }
+
+    // Resolves a region to the (country, city) keys recorded under it, so an address without a region is
+    // matched with plain IN lookups on the address key indexes instead of a correlated subquery
+    private LocationFilter locationFilter(String location) {
+        String key = TextUtils.normalizeKey(location);
+        if (key == null) {
+            return LocationFilter.NONE;
+        }
+        List<LocationHierarchy> cities = locationHierarchyRepository.findCitiesInRegion(key);
+        if (cities.isEmpty()) {
+            return new LocationFilter(key, LocationFilter.NO_KEYS, LocationFilter.NO_KEYS);
+        }
+        return new LocationFilter(key,
+                cities.stream().map(LocationHierarchy::getCountryKey).collect(Collectors.toSet()),
+                cities.stream().map(LocationHierarchy::getCityKey).collect(Collectors.toSet()));
+    }
+
+    // Keys are never blank, so '' keeps the IN lists non-empty without matching anything
+    private record LocationFilter(String key, Collection<String> countryKeys, Collection<String> cityKeys) {
+        static final List<String> NO_KEYS = List.of("");
+        static final LocationFilter NONE = new LocationFilter(null, NO_KEYS, NO_KEYS);
+    }
+
+    private record FeedCursor(Instant createdAt, UUID id) {
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static FeedCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new FeedCursor(Instant.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
 }
@@ -0,0 +1,379 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobSuggestionResponse;
+import com.jobsphere.jobsite.repository.employer.CompanyProfileRepository;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository.SkillFrequency;
+import com.jobsphere.jobsite.service.seeker.SeekerSkillChangedEvent;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.TextUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over listed job titles, company names and seeker skills. Each
+ * trie node remembers the heaviest term below it, so the top suggestions for a
+ * prefix come out of a best-first walk instead of a scan of the whole subtree.
+ * Terms are also reachable from the start of every later word, so "engineer"
+ * suggests "Software Engineer".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSuggestIndex {
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final JobRepository jobRepository;
+    private final CompanyProfileRepository companyProfileRepository;
+    private final SeekerSkillRepository seekerSkillRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private final Map<String, Term> terms = new HashMap<>();
+    private final Map<UUID, JobChangedEvent> listedJobs = new HashMap<>();
+    private Node root = new Node();
+
+    // Skills held by fewer seekers than this are indexed but not suggested
+    @Value("${jobsphere.jobs.suggest.min-skill-seekers:2}")
+    private int minSkillSeekers;
+
+    private enum Kind {
+        TITLE, COMPANY, SKILL
+    }
+
+    private record Snapshot(List<JobChangedEvent> jobs, List<String> companies, List<SkillFrequency> skills) {
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Company renames and changes made on other nodes are picked up by a periodic reload
+    @Scheduled(initialDelayString = "${jobsphere.jobs.suggest.refresh-interval-ms:900000}",
+            fixedDelayString = "${jobsphere.jobs.suggest.refresh-interval-ms:900000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Snapshot snapshot = changes.rebuild(this::readSnapshot, this::install);
+        log.info("Job suggest index rebuilt from {} listed jobs, {} companies and {} skills",
+                snapshot.jobs().size(), snapshot.companies().size(), snapshot.skills().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        changes.apply(() -> {
+            JobChangedEvent previous = listedJobs.remove(event.jobId());
+            if (previous != null) {
+                adjust(Kind.TITLE, previous.title(), -1);
+                adjust(Kind.COMPANY, previous.companyName(), -1);
+            }
+            if (event.listed()) {
+                addJob(event);
+            }
+        });
+    }
+
+    // Counts are read back instead of adjusted by one, so the update can be replayed onto a newer snapshot
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillChanged(SeekerSkillChangedEvent event) {
+        String previousKey = TextUtils.normalizeKey(event.previousSkill());
+        String key = TextUtils.normalizeKey(event.skill());
+        if (Objects.equals(previousKey, key))
+            return;
+        int previousCount = previousKey != null ? (int) seekerSkillRepository.countSeekersBySkillKey(previousKey) : 0;
+        int count = key != null ? (int) seekerSkillRepository.countSeekersBySkillKey(key) : 0;
+        changes.apply(() -> {
+            setCount(Kind.SKILL, event.previousSkill(), previousCount);
+            setCount(Kind.SKILL, event.skill(), count);
+        });
+    }
+
+    public List<JobSuggestionResponse> suggest(String prefix, int limit) {
+        String key = TextUtils.normalizeKey(prefix);
+        if (key == null) {
+            return List.of();
+        }
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readSnapshot, this::install);
+        }
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null || node.max <= 0) {
+                return List.of();
+            }
+
+            // Nodes are queued by the heaviest term beneath them, so terms pop out in weight order
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                    Comparator.comparingInt(Candidate::weight).reversed());
+            queue.add(new Candidate(node.max, node, null));
+            Set<Term> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<JobSuggestionResponse> results = new ArrayList<>(size);
+            while (!queue.isEmpty() && results.size() < size) {
+                Candidate next = queue.poll();
+                if (next.term() != null) {
+                    if (seen.add(next.term())) {
+                        results.add(new JobSuggestionResponse(next.term().text, next.term().kind.name(),
+                                next.weight()));
+                    }
+                    continue;
+                }
+                Node current = next.node();
+                if (current.terms != null) {
+                    for (Term term : current.terms) {
+                        int weight = weight(term);
+                        if (weight > 0) {
+                            queue.add(new Candidate(weight, null, term));
+                        }
+                    }
+                }
+                if (current.children != null) {
+                    for (Node child : current.children.values()) {
+                        if (child.max > 0) {
+                            queue.add(new Candidate(child.max, child, null));
+                        }
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        return transactionTemplate.execute(status -> new Snapshot(
+                jobRepository.findListedJobSnapshots().stream().map(JobChangedEvent::listed).toList(),
+                companyProfileRepository.findAllCompanyNames(),
+                seekerSkillRepository.countSeekersBySkill()));
+    }
+
+    private void install(Snapshot snapshot) {
+        root = new Node();
+        terms.clear();
+        listedJobs.clear();
+        // Every company is suggestable; its open jobs add to the weight
+        snapshot.companies().forEach(name -> adjust(Kind.COMPANY, name, 1));
+        snapshot.jobs().forEach(this::addJob);
+        snapshot.skills().forEach(skill -> adjust(Kind.SKILL, skill.getSkill(), (int) skill.getSeekerCount()));
+    }
+
+    private void addJob(JobChangedEvent job) {
+        listedJobs.put(job.jobId(), job);
+        adjust(Kind.TITLE, job.title(), 1);
+        adjust(Kind.COMPANY, job.companyName(), 1);
+    }
+
+    private void adjust(Kind kind, String text, int delta) {
+        String key = TextUtils.normalizeKey(text);
+        if (key == null || delta == 0)
+            return;
+        Term term = terms.get(kind.name() + ':' + key);
+        update(kind, key, text, (term != null ? term.count : 0) + delta);
+    }
+
+    private void setCount(Kind kind, String text, int count) {
+        String key = TextUtils.normalizeKey(text);
+        if (key != null) {
+            update(kind, key, text, count);
+        }
+    }
+
+    private void update(Kind kind, String key, String text, int count) {
+        String id = kind.name() + ':' + key;
+        Term term = terms.get(id);
+        if (term == null) {
+            if (count <= 0)
+                return;
+            term = new Term(kind, text.trim());
+            terms.put(id, term);
+            for (String suffix : wordSuffixes(key)) {
+                Node node = root;
+                for (int i = 0; i < suffix.length(); i++) {
+                    node = node.childOrCreate(suffix.charAt(i));
+                }
+                node.addTerm(term);
+            }
+        }
+
+        int before = weight(term);
+        term.count = count;
+        if (count <= 0) {
+            terms.remove(id);
+            for (String suffix : wordSuffixes(key)) {
+                removeTerm(suffix, term);
+            }
+        }
+        int after = term.count > 0 ? weight(term) : 0;
+
+        if (after > before) {
+            for (String suffix : wordSuffixes(key)) {
+                raise(suffix, after);
+            }
+        } else if (after < before) {
+            for (String suffix : wordSuffixes(key)) {
+                recompute(suffix);
+            }
+        }
+    }
+
+    private int weight(Term term) {
+        if (term.kind == Kind.SKILL && term.count < minSkillSeekers)
+            return 0;
+        return term.count;
+    }
+
+    private void raise(String path, int weight) {
+        Node node = root;
+        node.max = Math.max(node.max, weight);
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.child(path.charAt(i));
+            if (node != null) {
+                node.max = Math.max(node.max, weight);
+            }
+        }
+    }
+
+    // Nodes left with neither terms nor children are unlinked, so removed terms do not leave dead branches
+    private void removeTerm(String path, Term term) {
+        Node[] nodes = new Node[path.length() + 1];
+        nodes[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            nodes[i + 1] = nodes[i].child(path.charAt(i));
+            if (nodes[i + 1] == null)
+                return;
+        }
+        nodes[path.length()].removeTerm(term);
+        for (int i = path.length(); i > 0 && nodes[i].isEmpty(); i--) {
+            nodes[i - 1].removeChild(path.charAt(i - 1));
+        }
+    }
+
+    // A weight dropped, so every node still on the path recomputes its maximum bottom-up
+    private void recompute(String path) {
+        List<Node> nodes = new ArrayList<>(path.length() + 1);
+        Node node = root;
+        nodes.add(node);
+        for (int i = 0; i < path.length(); i++) {
+            node = node.child(path.charAt(i));
+            if (node == null)
+                break;
+            nodes.add(node);
+        }
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            Node current = nodes.get(i);
+            int max = 0;
+            if (current.terms != null) {
+                for (Term term : current.terms) {
+                    max = Math.max(max, weight(term));
+                }
+            }
+            if (current.children != null) {
+                for (Node child : current.children.values()) {
+                    max = Math.max(max, child.max);
+                }
+            }
+            current.max = max;
+        }
+    }
+
+    private static List<String> wordSuffixes(String key) {
+        List<String> suffixes = new ArrayList<>(2);
+        suffixes.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            if (i + 1 < key.length()) {
+                suffixes.add(key.substring(i + 1));
+            }
+        }
+        return suffixes;
+    }
+
+    private record Candidate(int weight, Node node, Term term) {
+    }
+
+    private static final class Term {
+        private final Kind kind;
+        private final String text;
+        private int count;
+
+        private Term(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    // Children are created lazily; most nodes on a title path have a single child
+    private static final class Node {
+        private Map<Character, Node> children;
+        private List<Term> terms;
+        private int max;
+
+        Node child(char c) {
+            return children != null ? children.get(c) : null;
+        }
+
+        Node childOrCreate(char c) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            return children.computeIfAbsent(c, ignored -> new Node());
+        }
+
+        void addTerm(Term term) {
+            if (terms == null) {
+                terms = new ArrayList<>(1);
+            }
+            terms.add(term);
+        }
+
+        void removeTerm(Term term) {
+            if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                terms = null;
+            }
+        }
+
+        void removeChild(char c) {
+            children.remove(c);
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return terms == null && children == null;
+        }
+    }
+}
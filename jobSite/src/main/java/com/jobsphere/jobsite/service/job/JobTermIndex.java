@@ -0,0 +1,253 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.TextUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index over the text of open jobs, scored with BM25. Titles and
+ * categories count several times towards a term's frequency so a skill named in
+ * the title outranks one buried in the description. Removed jobs leave stale
+ * postings behind until the index is compacted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobTermIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_BOOST = 3;
+    private static final int CATEGORY_BOOST = 2;
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private Corpus corpus = new Corpus();
+
+    public record ScoredJob(UUID jobId, float score) {
+    }
+
+    public record TopJobs(List<ScoredJob> jobs, int totalMatches) {
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${jobsphere.jobs.recommend.refresh-interval-ms:3600000}",
+            fixedDelayString = "${jobsphere.jobs.recommend.refresh-interval-ms:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Corpus rebuilt = changes.rebuild(this::readCorpus, this::install);
+        log.info("Job term index rebuilt with {} jobs and {} terms", rebuilt.slots.size(), rebuilt.postings.size());
+    }
+
+    // For background callers that need the index; waits for a load in progress instead of starting another
+    public void ensureLoaded() {
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readCorpus, this::install);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // The event carries no description, so listed jobs are re-read once here rather than per query
+        Optional<JobMatchView> job = event.listed()
+                ? transactionTemplate.execute(status -> jobRepository.findListedJobMatchViewById(event.jobId()))
+                : Optional.empty();
+        Map<String, Integer> frequencies = job.map(this::termFrequencies).orElse(null);
+
+        changes.apply(() -> {
+            corpus.remove(event.jobId());
+            if (frequencies != null) {
+                corpus.add(event.jobId(), frequencies);
+            }
+            if (corpus.documents.size() > 2 * corpus.slots.size() + 1024) {
+                corpus = corpus.compact();
+            }
+        });
+    }
+
+    /**
+     * Highest scoring jobs for a weighted bag of query terms, best first. Only a
+     * heap of {@code limit} entries is kept however many jobs match.
+     */
+    public TopJobs topJobs(Map<String, Float> query, int limit) {
+        // Nothing is ranked until the startup load has finished, rather than loading on the request thread
+        if (query.isEmpty() || limit <= 0 || !changes.isLoaded()) {
+            return new TopJobs(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int jobCount = corpus.slots.size();
+            if (jobCount == 0) {
+                return new TopJobs(List.of(), 0);
+            }
+            float averageLength = (float) corpus.totalLength / jobCount;
+            float[] scores = new float[corpus.documents.size()];
+            for (Map.Entry<String, Float> term : query.entrySet()) {
+                Postings postings = corpus.postings.get(term.getKey());
+                if (postings == null || postings.live == 0)
+                    continue;
+                float idf = (float) Math.log(1 + (jobCount - postings.live + 0.5) / (postings.live + 0.5));
+                float weight = term.getValue() * idf;
+                for (int i = 0; i < postings.size; i++) {
+                    Document document = corpus.documents.get(postings.slots[i]);
+                    if (document == null)
+                        continue;
+                    int tf = postings.frequencies[i];
+                    float norm = K1 * (1 - B + B * document.length / averageLength);
+                    scores[postings.slots[i]] += weight * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            Comparator<ScoredJob> byScore = Comparator.comparingDouble(ScoredJob::score);
+            PriorityQueue<ScoredJob> heap = new PriorityQueue<>(limit + 1, byScore);
+            int matches = 0;
+            for (int slot = 0; slot < scores.length; slot++) {
+                if (scores[slot] <= 0)
+                    continue;
+                matches++;
+                if (heap.size() < limit) {
+                    heap.add(new ScoredJob(corpus.documents.get(slot).jobId, scores[slot]));
+                } else if (scores[slot] > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new ScoredJob(corpus.documents.get(slot).jobId, scores[slot]));
+                }
+            }
+
+            List<ScoredJob> top = new ArrayList<>(heap);
+            top.sort(byScore.reversed());
+            return new TopJobs(top, matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Corpus readCorpus() {
+        Corpus rebuilt = new Corpus();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<JobMatchView> jobs = jobRepository.streamListedJobMatchViews()) {
+                jobs.forEach(job -> rebuilt.add(job.id(), termFrequencies(job)));
+            }
+        });
+        return rebuilt;
+    }
+
+    private void install(Corpus rebuilt) {
+        corpus = rebuilt;
+    }
+
+    private Map<String, Integer> termFrequencies(JobMatchView job) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TextUtils.terms(job.title()).forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+        TextUtils.terms(job.category()).forEach(term -> frequencies.merge(term, CATEGORY_BOOST, Integer::sum));
+        TextUtils.terms(job.description()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private record Document(UUID jobId, String[] terms, int[] frequencies, int length) {
+    }
+
+    private static final class Corpus {
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<UUID, Integer> slots = new HashMap<>();
+        // Indexed by slot; removed jobs leave a null until the next compaction
+        private final List<Document> documents = new ArrayList<>();
+        private long totalLength;
+
+        void add(UUID jobId, Map<String, Integer> termFrequencies) {
+            if (termFrequencies.isEmpty())
+                return;
+            int slot = documents.size();
+            String[] terms = new String[termFrequencies.size()];
+            int[] frequencies = new int[terms.length];
+            int length = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                terms[i] = entry.getKey();
+                frequencies[i] = entry.getValue();
+                length += entry.getValue();
+                postings.computeIfAbsent(entry.getKey(), key -> new Postings()).add(slot, entry.getValue());
+                i++;
+            }
+            documents.add(new Document(jobId, terms, frequencies, length));
+            slots.put(jobId, slot);
+            totalLength += length;
+        }
+
+        void remove(UUID jobId) {
+            Integer slot = slots.remove(jobId);
+            if (slot == null)
+                return;
+            Document document = documents.set(slot, null);
+            for (String term : document.terms) {
+                postings.get(term).live--;
+            }
+            totalLength -= document.length;
+        }
+
+        Corpus compact() {
+            Corpus compacted = new Corpus();
+            for (Document document : documents) {
+                if (document == null)
+                    continue;
+                Map<String, Integer> frequencies = new HashMap<>();
+                for (int i = 0; i < document.terms.length; i++) {
+                    frequencies.put(document.terms[i], document.frequencies[i]);
+                }
+                compacted.add(document.jobId, frequencies);
+            }
+            return compacted;
+        }
+    }
+
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int live;
+
+        void add(int slot, int frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.seeker.SeekerSector;
+import com.jobsphere.jobsite.model.seeker.SeekerSkill;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.job.JobRepository.JobVectorView;
+import com.jobsphere.jobsite.repository.seeker.SeekerBioRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerBioRepository.SeekerBioTitleView;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository.SeekerSectorView;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository.SeekerSkillView;
+import com.jobsphere.jobsite.service.seeker.SeekerProfileChangedEvent;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.SortedIntSet;
+import com.jobsphere.jobsite.utils.TextUtils;
+import com.jobsphere.jobsite.utils.VectorKernel;
+import com.jobsphere.jobsite.utils.VectorMatrix;
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Seekers and listed jobs as fixed-width hashed feature vectors (skills, sector,
+ * title words and bigrams, experience level), unit length so a dot product is
+ * their cosine similarity. Top-K lookups are a brute-force scan of one
+ * contiguous matrix with the SIMD {@link VectorKernel} when available, which
+ * keeps a million 64-wide rows within tens of milliseconds. The SIMD kernel
+ * needs the JVM started with {@code --add-modules jdk.incubator.vector}, which
+ * {@code spring-boot:run} passes but a packaged jar must be given explicitly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileVectorIndex {
+    private static final float SKILL_WEIGHT = 1.0f;
+    private static final float SECTOR_WEIGHT = 1.0f;
+    private static final float TITLE_WEIGHT = 0.5f;
+    private static final float LEVEL_WEIGHT = 0.5f;
+    private static final int MAX_PHRASE_WORDS = 4;
+    private static final int NO_LEVEL = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Job experience level keywords and seeker skill proficiencies on one scale
+    private static final Map<String, Integer> LEVELS = Map.ofEntries(
+            Map.entry("intern", 0), Map.entry("internship", 0), Map.entry("entry", 0),
+            Map.entry("junior", 0), Map.entry("graduate", 0), Map.entry("beginner", 0),
+            Map.entry("mid", 1), Map.entry("intermediate", 1),
+            Map.entry("senior", 2), Map.entry("advanced", 2),
+            Map.entry("lead", 3), Map.entry("principal", 3), Map.entry("expert", 3),
+            Map.entry("head", 3), Map.entry("director", 3));
+
+    private final SeekerSkillRepository seekerSkillRepository;
+    private final SeekerSectorRepository seekerSectorRepository;
+    private final SeekerBioRepository seekerBioRepository;
+    private final JobRepository jobRepository;
+    private final SkillDictionary skillDictionary;
+    private final CategoryTaxonomy categoryTaxonomy;
+    private final TransactionTemplate transactionTemplate;
+
+    private final VectorKernel kernel = VectorKernel.best();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private VectorMatrix seekers;
+    private VectorMatrix jobs;
+
+    private record Snapshot(VectorMatrix seekers, VectorMatrix jobs) {
+    }
+
+    @Value("${jobsphere.matching.vectors.dimensions:64}")
+    private int dimensions;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Changes made on other nodes are picked up by a periodic reload
+    @Scheduled(initialDelayString = "${jobsphere.matching.vectors.refresh-interval-ms:3600000}",
+            fixedDelayString = "${jobsphere.matching.vectors.refresh-interval-ms:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Snapshot snapshot = changes.rebuild(this::readVectors, this::install);
+        log.info("Profile vectors rebuilt with {} seekers and {} jobs at {} dimensions using the {} kernel",
+                snapshot.seekers().size(), snapshot.jobs().size(), dimensions, kernel.name());
+    }
+
+    /**
+     * Loads the vectors unless they already are, for background callers that
+     * need the full index; request paths only see what is loaded.
+     */
+    public void ensureLoaded() {
+        changes.ensureLoaded(this::readVectors, this::install);
+    }
+
+    public boolean isLoaded() {
+        return changes.isLoaded();
+    }
+
+    private Snapshot readVectors() {
+        VectorMatrix seekerRows = new VectorMatrix(dimensions, INITIAL_CAPACITY);
+        VectorMatrix jobRows = new VectorMatrix(dimensions, INITIAL_CAPACITY);
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<UUID, Integer> levels = new HashMap<>();
+            try (Stream<SeekerSkillView> skills = seekerSkillRepository.streamSeekerSkills()) {
+                skills.forEach(skill -> {
+                    addSkill(skill.getSkill(),
+                            (feature, weight) -> addFeature(seekerRows, skill.getSeekerId(), feature, weight));
+                    levels.merge(skill.getSeekerId(), level(skill.getProficiency()), Math::max);
+                });
+            }
+            levels.forEach((seekerId, level) -> addLevel(level,
+                    (feature, weight) -> addFeature(seekerRows, seekerId, feature, weight)));
+            try (Stream<SeekerSectorView> sectors = seekerSectorRepository.streamSeekerSectors()) {
+                sectors.forEach(sector -> addSector(sector.getSector(),
+                        (feature, weight) -> addFeature(seekerRows, sector.getSeekerId(), feature, weight)));
+            }
+            try (Stream<SeekerBioTitleView> titles = seekerBioRepository.streamSeekerBioTitles()) {
+                titles.forEach(bio -> addTitle(bio.getTitle(),
+                        (feature, weight) -> addFeature(seekerRows, bio.getSeekerId(), feature, weight)));
+            }
+            try (Stream<JobVectorView> listedJobs = jobRepository.streamListedJobVectorViews()) {
+                listedJobs.forEach(job -> addJob(job.getTitle(), job.getDescription(),
+                        job.getExperienceDescription(), job.getCategory(), job.getExperienceLevel(),
+                        (feature, weight) -> addFeature(jobRows, job.getId(), feature, weight)));
+            }
+        });
+        seekerRows.normalizeAll();
+        jobRows.normalizeAll();
+        return new Snapshot(seekerRows, jobRows);
+    }
+
+    // Called under the write lock
+    private void install(Snapshot snapshot) {
+        seekers = snapshot.seekers();
+        jobs = snapshot.jobs();
+    }
+
+    // Runs before other listeners of the event, so they already see the seeker's new vector
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(SeekerProfileChangedEvent event) {
+        float[] vector = new float[dimensions];
+        BiConsumer<String, Float> features = (feature, weight) -> addFeature(vector, feature, weight);
+        transactionTemplate.executeWithoutResult(status -> {
+            int level = NO_LEVEL;
+            for (SeekerSkill skill : seekerSkillRepository.findBySeekerId(event.seekerId())) {
+                addSkill(skill.getSkill(), features);
+                level = Math.max(level, level(skill.getProficiency()));
+            }
+            addLevel(level, features);
+            for (SeekerSector sector : seekerSectorRepository.findBySeekerId(event.seekerId())) {
+                addSector(sector.getSector(), features);
+            }
+            seekerBioRepository.findBySeekerId(event.seekerId())
+                    .ifPresent(bio -> addTitle(bio.getTitle(), features));
+        });
+        store(true, event.seekerId(), vector);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Optional<JobVectorView> job = event.listed()
+                ? transactionTemplate.execute(status -> jobRepository.findListedJobVectorViewById(event.jobId()))
+                : Optional.empty();
+        float[] vector = new float[dimensions];
+        job.ifPresent(found -> addJob(found.getTitle(), found.getDescription(), found.getExperienceDescription(),
+                found.getCategory(), found.getExperienceLevel(),
+                (feature, weight) -> addFeature(vector, feature, weight)));
+        store(false, event.jobId(), vector);
+    }
+
+    /**
+     * Seekers most similar to a job, best first, or none before the vectors are
+     * loaded. The job need not be listed.
+     */
+    public List<Match> topCandidates(UUID jobId, int k) {
+        float[] query = changes.isLoaded() ? jobVector(jobId) : null;
+        if (query == null)
+            return List.of();
+        return scan(() -> seekers.topK(query, k, kernel), "seekers");
+    }
+
+    /**
+     * A job's unit-length feature vector, or null when the job does not exist.
+     */
+    public float[] jobVector(UUID jobId) {
+        float[] vector = changes.isLoaded() ? readLocked(() -> jobs.get(jobId)) : null;
+        if (vector != null)
+            return vector;
+        Job job = transactionTemplate.execute(status -> jobRepository.findById(jobId).orElse(null));
+        return job != null ? jobVector(job) : null;
+    }
+
+    /**
+     * A seeker's vector, or null when they have none or the vectors are not loaded yet.
+     */
+    public float[] seekerVector(UUID seekerId) {
+        if (!changes.isLoaded())
+            return null;
+        return readLocked(() -> seekers.get(seekerId));
+    }
+
+    /**
+     * Visits every seeker vector while holding the read lock, so the visitor
+     * should be quick and must not keep the array. Loads the vectors first.
+     */
+    public void forEachSeeker(VectorMatrix.RowVisitor visitor) {
+        ensureLoaded();
+        readLocked(() -> {
+            seekers.forEach(visitor);
+            return null;
+        });
+    }
+
+    public List<UUID> missingSeekers(Collection<UUID> seekerIds) {
+        ensureLoaded();
+        return readLocked(() -> seekerIds.stream().filter(id -> !seekers.contains(id)).toList());
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Listed jobs most similar to a seeker's profile, best first.
+     */
+    public List<Match> topJobs(UUID seekerId, int k) {
+        float[] query = seekerVector(seekerId);
+        if (query == null)
+            return List.of();
+        return scan(() -> jobs.topK(query, k, kernel), "jobs");
+    }
+
+    private List<Match> scan(Supplier<List<Match>> search, String target) {
+        long start = System.nanoTime();
+        List<Match> matches = readLocked(search);
+        log.debug("Vector scan over {} took {} us", target, (System.nanoTime() - start) / 1000);
+        return matches;
+    }
+
+    private <T> T readLocked(Supplier<T> read) {
+        lock.readLock().lock();
+        try {
+            return read.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // An all-zero vector matches nothing, so the row is dropped instead; put and remove both
+    // set the row outright, so the update can be replayed onto a snapshot being rebuilt
+    private void store(boolean seeker, UUID id, float[] vector) {
+        VectorMatrix.normalize(vector);
+        boolean empty = true;
+        for (float value : vector) {
+            empty &= value == 0f;
+        }
+        boolean remove = empty;
+        changes.apply(() -> {
+            VectorMatrix matrix = seeker ? seekers : jobs;
+            if (remove) {
+                matrix.remove(id);
+            } else {
+                matrix.put(id, vector);
+            }
+        });
+    }
+
+    private float[] jobVector(Job job) {
+        float[] vector = new float[dimensions];
+        addJob(job.getTitle(), job.getDescription(), job.getExperienceDescription(), job.getCategory(),
+                job.getExperienceLevel(), (feature, weight) -> addFeature(vector, feature, weight));
+        VectorMatrix.normalize(vector);
+        return vector;
+    }
+
+    private void addJob(String title, String description, String experienceDescription, String category,
+            String experienceLevel, BiConsumer<String, Float> features) {
+        SortedIntSet skills = skillDictionary.findIn(title, MAX_PHRASE_WORDS);
+        SortedIntSet described = skillDictionary.findIn(description, MAX_PHRASE_WORDS);
+        SortedIntSet experience = skillDictionary.findIn(experienceDescription, MAX_PHRASE_WORDS);
+        for (int i = 0; i < described.size(); i++) {
+            skills.add(described.get(i));
+        }
+        for (int i = 0; i < experience.size(); i++) {
+            skills.add(experience.get(i));
+        }
+        for (int i = 0; i < skills.size(); i++) {
+            String key = skillDictionary.key(skills.get(i));
+            if (key != null) {
+                features.accept("skill:" + key, SKILL_WEIGHT);
+            }
+        }
+        addSector(category, features);
+        addTitle(title, features);
+        int level = NO_LEVEL;
+        for (String word : TextUtils.terms(experienceLevel)) {
+            level = Math.max(level, LEVELS.getOrDefault(word, NO_LEVEL));
+        }
+        addLevel(level, features);
+    }
+
+    // Seeker skills are interned so that job text can find them
+    private void addSkill(String skill, BiConsumer<String, Float> features) {
+        String key = skillDictionary.normalize(skill);
+        if (key == null)
+            return;
+        skillDictionary.id(key);
+        features.accept("skill:" + key, SKILL_WEIGHT);
+    }
+
+    private void addSector(String sector, BiConsumer<String, Float> features) {
+        int id = categoryTaxonomy.categoryId(sector);
+        if (id != CategoryTaxonomy.NONE) {
+            features.accept("sector:" + id, SECTOR_WEIGHT);
+        }
+    }
+
+    private void addTitle(String title, BiConsumer<String, Float> features) {
+        List<String> words = TextUtils.terms(title);
+        for (int i = 0; i < words.size(); i++) {
+            features.accept("title:" + words.get(i), TITLE_WEIGHT);
+            if (i > 0) {
+                features.accept("title:" + words.get(i - 1) + " " + words.get(i), TITLE_WEIGHT);
+            }
+        }
+    }
+
+    private void addLevel(int level, BiConsumer<String, Float> features) {
+        if (level != NO_LEVEL) {
+            features.accept("level:" + level, LEVEL_WEIGHT);
+        }
+    }
+
+    private static int level(String proficiency) {
+        return proficiency == null ? NO_LEVEL
+                : LEVELS.getOrDefault(proficiency.toLowerCase(Locale.ROOT), NO_LEVEL);
+    }
+
+    private void addFeature(VectorMatrix matrix, UUID id, String feature, float weight) {
+        int hash = hash(feature);
+        matrix.add(id, slot(hash), sign(hash) * weight);
+    }
+
+    private void addFeature(float[] vector, String feature, float weight) {
+        int hash = hash(feature);
+        vector[slot(hash)] += sign(hash) * weight;
+    }
+
+    // String.hashCode is stable across JVMs; the finalizer spreads its low bits over the whole int
+    private static int hash(String feature) {
+        int h = feature.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private int slot(int hash) {
+        return Math.floorMod(hash >>> 1, dimensions);
+    }
+
+    // Signed hashing keeps colliding features from only ever adding up
+    private static float sign(int hash) {
+        return (hash & 1) == 0 ? 1f : -1f;
+    }
+}
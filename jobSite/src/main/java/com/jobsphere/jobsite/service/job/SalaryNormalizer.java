@@ -0,0 +1,146 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.config.SalaryProperties;
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Converts posted salaries into annual amounts in the configured base currency so
+ * range filters and salary sorting can run on indexed columns.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SalaryNormalizer {
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final SalaryProperties salaryProperties;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile String ratesVersion;
+
+    public void apply(Job job) {
+        BigDecimal min = toAnnual(job.getSalaryMin(), job.getCurrency(), job.getCompensationType());
+        BigDecimal max = toAnnual(job.getSalaryMax(), job.getCurrency(), job.getCompensationType());
+        // A one-sided range is stored on both ends so either bound can be filtered without COALESCE
+        job.setSalaryMinAnnual(min != null ? min : max);
+        job.setSalaryMaxAnnual(max != null ? max : min);
+        job.setSalaryRatesVersion(ratesVersion());
+    }
+
+    public BigDecimal toAnnual(BigDecimal amount, String currency, String compensationType) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal rate = exchangeRate(currency);
+        BigDecimal periods = periodsPerYear(compensationType);
+        if (rate == null || periods == null) {
+            return null;
+        }
+        return amount.multiply(rate).multiply(periods).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Jobs normalized with an older rate or period table (or before normalization existed) are
+    // recomputed in the background, one locked chunk per transaction so nodes can share the work
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String version = ratesVersion();
+        int updated = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<UUID> ids = jobRepository.lockStaleSalaries(version, BACKFILL_BATCH_SIZE);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                for (JobRepository.JobSalaryView view : jobRepository.findSalariesByIdIn(ids)) {
+                    BigDecimal min = toAnnual(view.getSalaryMin(), view.getCurrency(), view.getCompensationType());
+                    BigDecimal max = toAnnual(view.getSalaryMax(), view.getCurrency(), view.getCompensationType());
+                    jobRepository.updateAnnualSalary(view.getId(), min != null ? min : max,
+                            max != null ? max : min, version);
+                }
+                return ids.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            updated += count;
+        }
+        if (updated > 0) {
+            log.info("Normalized annual salary for {} existing jobs with rates version {}", updated, version);
+        }
+    }
+
+    // Fingerprint of the rate and period table; changing any entry re-normalizes every stored salary
+    public String ratesVersion() {
+        String version = ratesVersion;
+        if (version == null) {
+            StringBuilder table = new StringBuilder()
+                    .append(salaryProperties.getBaseCurrency().trim().toUpperCase(Locale.ROOT)).append(';')
+                    .append(salaryProperties.getDefaultPayPeriod().trim().toUpperCase(Locale.ROOT)).append(';');
+            appendTable(table, salaryProperties.getExchangeRates());
+            appendTable(table, salaryProperties.getPeriodsPerYear());
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(table.toString().getBytes(StandardCharsets.UTF_8));
+                version = HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+            ratesVersion = version;
+        }
+        return version;
+    }
+
+    private static void appendTable(StringBuilder out, Map<String, BigDecimal> table) {
+        new TreeMap<>(table).forEach((key, value) -> out.append(key.trim().toUpperCase(Locale.ROOT))
+                .append('=').append(value.stripTrailingZeros().toPlainString()).append(';'));
+        out.append('|');
+    }
+
+    private BigDecimal exchangeRate(String currency) {
+        if (currency == null || currency.isBlank()
+                || currency.trim().equalsIgnoreCase(salaryProperties.getBaseCurrency())) {
+            return BigDecimal.ONE;
+        }
+        return lookup(salaryProperties.getExchangeRates(), currency);
+    }
+
+    private BigDecimal periodsPerYear(String compensationType) {
+        String period = compensationType == null || compensationType.isBlank()
+                ? salaryProperties.getDefaultPayPeriod()
+                : compensationType;
+        return lookup(salaryProperties.getPeriodsPerYear(), period);
+    }
+
+    // Property map keys keep whatever case they were written in
+    private static BigDecimal lookup(Map<String, BigDecimal> table, String key) {
+        String wanted = key.trim();
+        for (Map.Entry<String, BigDecimal> entry : table.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(wanted)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobsphere.jobsite.service.job;
 
+import com.jobsphere.jobsite.dto.job.JobSummaryResponse;
 import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.job.Job;
@@ -67,7 +68,13 @@ public class SavedJobService {
     @Transactional(readOnly = true)
     public Page<com.jobsphere.jobsite.dto.job.JobResponse> getSavedJobsAsResponses(Pageable pageable) {
         UUID userId = authenticationService.getCurrentUserId();
-        return savedJobRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-                .map(savedJob -> jobService.mapToResponse(savedJob.getJob()));
+        return jobService.mapToResponses(savedJobRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+                .map(SavedJob::getJob));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<JobSummaryResponse> getSavedJobSummaries(Pageable pageable) {
+        UUID userId = authenticationService.getCurrentUserId();
+        return savedJobRepository.findSavedJobSummariesByUserId(userId, pageable);
     }
 }
@@ -0,0 +1,259 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.service.seeker.SeekerProfileChangedEvent;
+import com.jobsphere.jobsite.utils.HnswIndex;
+import com.jobsphere.jobsite.utils.VectorKernel;
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW graph over the seeker vectors of {@link ProfileVectorIndex}, for
+ * candidate search once a full scan gets too slow. Profile changes are
+ * inserted as they happen; a periodic reconcile against the vector index
+ * catches anything missed, and the graph is saved to a local file so a restart
+ * only replays the differences instead of rebuilding it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeekerAnnIndex {
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+    private static final int MAX_EF = 1000;
+
+    private final ProfileVectorIndex profileVectorIndex;
+
+    private final VectorKernel kernel = VectorKernel.best();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile HnswIndex graph;
+    private volatile boolean dirty;
+
+    @Value("${jobsphere.matching.ann.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobsphere.matching.ann.m:16}")
+    private int m;
+
+    @Value("${jobsphere.matching.ann.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${jobsphere.matching.ann.ef-search:64}")
+    private int efSearch;
+
+    @Value("${jobsphere.matching.ann.path:data/seeker-ann.hnsw}")
+    private String file;
+
+    // Tombstoned nodes slow searches down, so past this share the graph is rebuilt
+    @Value("${jobsphere.matching.ann.max-deleted-ratio:0.3}")
+    private double maxDeletedRatio;
+
+    // Listener order cannot wait for the vector index's own background load, so it is awaited explicitly
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        if (!enabled)
+            return;
+        profileVectorIndex.ensureLoaded();
+        HnswIndex loaded = load();
+        if (loaded != null) {
+            lock.writeLock().lock();
+            try {
+                graph = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        maintain();
+    }
+
+    @Scheduled(initialDelayString = "${jobsphere.matching.ann.save-interval-ms:600000}",
+            fixedDelayString = "${jobsphere.matching.ann.save-interval-ms:600000}")
+    public synchronized void maintain() {
+        if (!enabled)
+            return;
+        HnswIndex current = graph;
+        boolean rebuild = current == null
+                || current.deletedCount() > maxDeletedRatio * Math.max(current.size(), 1);
+        reconcile(rebuild);
+        if (dirty) {
+            save();
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        if (enabled && dirty) {
+            save();
+        }
+    }
+
+    // Runs after ProfileVectorIndex has stored the seeker's new vector
+    @Async
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(SeekerProfileChangedEvent event) {
+        if (!enabled || graph == null)
+            return;
+        float[] vector = profileVectorIndex.seekerVector(event.seekerId());
+        lock.writeLock().lock();
+        try {
+            if (vector != null) {
+                graph.insert(event.seekerId(), vector);
+            } else {
+                graph.remove(event.seekerId());
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && graph != null;
+    }
+
+    /**
+     * Approximate nearest seekers to a job, best first, or an empty list when the
+     * graph is not built yet. {@code ef} trades recall for latency; null uses the
+     * configured default.
+     */
+    public List<Match> topCandidates(UUID jobId, int k, Integer ef) {
+        if (!isReady())
+            return List.of();
+        float[] query = profileVectorIndex.jobVector(jobId);
+        if (query == null)
+            return List.of();
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<Match> matches = graph.search(query, k, ef != null ? Math.min(ef, MAX_EF) : efSearch);
+            log.debug("ANN search over {} seekers took {} us", graph.size(), (System.nanoTime() - start) / 1000);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Brings the graph in line with the vector index; a rebuild fills a new graph off to the side
+    private void reconcile(boolean rebuild) {
+        HnswIndex target = rebuild
+                ? new HnswIndex(profileVectorIndex.dimensions(), m, efConstruction, kernel)
+                : graph;
+        Map<UUID, float[]> changed = new LinkedHashMap<>();
+        List<UUID> removed;
+        lock.readLock().lock();
+        try {
+            profileVectorIndex.forEachSeeker((id, data, offset) -> {
+                if (!target.matches(id, data, offset)) {
+                    changed.put(id, Arrays.copyOfRange(data, offset, offset + target.dimensions()));
+                }
+            });
+            removed = profileVectorIndex.missingSeekers(target.ids());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (rebuild) {
+            long start = System.nanoTime();
+            changed.forEach(target::insert);
+            lock.writeLock().lock();
+            try {
+                graph = target;
+                dirty = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Seeker ANN graph built with {} seekers in {} ms", target.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+        if (changed.isEmpty() && removed.isEmpty())
+            return;
+        // Applied in batches so searches are not blocked for the whole replay
+        List<Map.Entry<UUID, float[]>> updates = new ArrayList<>(changed.entrySet());
+        for (int from = 0; from < updates.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Map.Entry<UUID, float[]>> batch = updates.subList(from,
+                    Math.min(from + RECONCILE_BATCH_SIZE, updates.size()));
+            lock.writeLock().lock();
+            try {
+                batch.forEach(update -> target.insert(update.getKey(), update.getValue()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removed.forEach(target::remove);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Seeker ANN graph reconciled: {} updated, {} removed", changed.size(), removed.size());
+    }
+
+    private HnswIndex load() {
+        Path path = Path.of(file);
+        if (!Files.isRegularFile(path))
+            return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            HnswIndex loaded = HnswIndex.readFrom(in, profileVectorIndex.dimensions(), m, efConstruction, kernel);
+            if (loaded == null) {
+                log.info("Seeker ANN graph at {} was built with other settings, rebuilding", path);
+            } else {
+                log.info("Seeker ANN graph loaded from {} with {} seekers", path, loaded.size());
+            }
+            return loaded;
+        } catch (IOException e) {
+            log.warn("Could not read seeker ANN graph from {}, rebuilding: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    // Written to a temp file and moved into place, so a crash mid-write never leaves a torn graph
+    private void save() {
+        Path path = Path.of(file);
+        lock.readLock().lock();
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                graph.writeTo(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            log.debug("Seeker ANN graph saved to {}", path);
+        } catch (IOException e) {
+            log.warn("Could not save seeker ANN graph to {}: {}", path, e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.seeker.SeekerSector;
+import com.jobsphere.jobsite.model.seeker.SeekerSkill;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository.SeekerSectorView;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository.SeekerSkillView;
+import com.jobsphere.jobsite.service.seeker.SeekerProfileChangedEvent;
+import com.jobsphere.jobsite.utils.IndexReplayLog;
+import com.jobsphere.jobsite.utils.SortedIntSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index from seeker skills and sectors to seekers, used to pick
+ * candidates for a job. Skills are ids from the shared {@link SkillDictionary},
+ * seekers are numbered densely, and every posting list and per-seeker skill set
+ * is a {@link SortedIntSet}, so a job's candidates come from merging a few
+ * posting lists and scoring one seeker is a pair of set intersections.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeekerTermIndex {
+    // Shorter skills ("c", "go", "it") match too much free text to be useful
+    private static final int MIN_SKILL_LENGTH = 3;
+    // Title words shorter than this are not matched against the words of a skill
+    private static final int MIN_TITLE_WORD_LENGTH = 4;
+    private static final int MAX_PHRASE_WORDS = 4;
+    private static final int SKILL_POINTS = 2;
+    private static final int SECTOR_POINTS = 1;
+
+    private final SeekerSkillRepository seekerSkillRepository;
+    private final SeekerSectorRepository seekerSectorRepository;
+    private final SkillDictionary skillDictionary;
+    private final CategoryTaxonomy categoryTaxonomy;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IndexReplayLog changes = new IndexReplayLog(lock);
+    private Corpus corpus = new Corpus();
+
+    public record ScoredCandidate(UUID seekerId, int score) {
+    }
+
+    private record Candidate(int seeker, int score) {
+    }
+
+    /**
+     * Skill ids found in a job's text and among its title words, plus its
+     * category id; computed once per job and reusable across seekers.
+     */
+    public record JobTerms(SortedIntSet skills, SortedIntSet titleWords, int category) {
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Changes made on other nodes are picked up by a periodic reload
+    @Scheduled(initialDelayString = "${jobsphere.seekers.term-index.refresh-interval-ms:3600000}",
+            fixedDelayString = "${jobsphere.seekers.term-index.refresh-interval-ms:3600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Corpus rebuilt = changes.rebuild(this::readCorpus, this::install);
+        log.info("Seeker term index rebuilt with {} seekers over {} dictionary terms and {} sectors",
+                rebuilt.seekerIds.size(), skillDictionary.size(), rebuilt.sectors.size());
+    }
+
+    // For background callers that need the index; waits for a load in progress instead of starting another
+    public void ensureLoaded() {
+        if (!changes.isLoaded()) {
+            changes.ensureLoaded(this::readCorpus, this::install);
+        }
+    }
+
+    // Runs before other listeners of the event, so they already see the seeker's new terms
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(SeekerProfileChangedEvent event) {
+        SeekerTerms terms = new SeekerTerms();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SeekerSkill skill : seekerSkillRepository.findBySeekerId(event.seekerId())) {
+                addSkill(terms, skill.getSkill());
+            }
+            for (SeekerSector sector : seekerSectorRepository.findBySeekerId(event.seekerId())) {
+                addSector(terms, sector.getSector());
+            }
+        });
+
+        changes.apply(() -> corpus.replace(event.seekerId(), terms));
+    }
+
+    public JobTerms jobTerms(Job job) {
+        SortedIntSet skills = skillDictionary.findIn(job.getTitle(), MAX_PHRASE_WORDS);
+        SortedIntSet description = skillDictionary.findIn(job.getDescription(), MAX_PHRASE_WORDS);
+        SortedIntSet experience = skillDictionary.findIn(job.getExperienceDescription(), MAX_PHRASE_WORDS);
+        for (int i = 0; i < description.size(); i++) {
+            skills.add(description.get(i));
+        }
+        for (int i = 0; i < experience.size(); i++) {
+            skills.add(experience.get(i));
+        }
+        return new JobTerms(skills, skillDictionary.findIn(job.getTitle(), 1),
+                categoryTaxonomy.categoryId(job.getCategory()));
+    }
+
+    /**
+     * Seekers to recommend for a job, best first. A seeker scores two points per
+     * skill found in the job's text and one for a sector related to the job's
+     * category; sector-only candidates fill any remaining places. Skill hits are
+     * counted by merging the sorted posting lists, so only the seekers that make
+     * the top {@code limit} are ever allocated. Empty until the index is loaded.
+     */
+    public List<ScoredCandidate> findCandidates(Job job, int limit) {
+        if (limit <= 0 || !changes.isLoaded()) {
+            return List.of();
+        }
+        JobTerms jobTerms = jobTerms(job);
+
+        lock.readLock().lock();
+        try {
+            List<SortedIntSet> skillPostings = corpus.skillPostings(jobTerms);
+            List<SortedIntSet> sectorPostings = new ArrayList<>();
+            if (jobTerms.category() != CategoryTaxonomy.NONE) {
+                corpus.sectors.forEach((sector, postings) -> {
+                    if (!postings.isEmpty() && categoryTaxonomy.related(sector, jobTerms.category())) {
+                        sectorPostings.add(postings);
+                    }
+                });
+            }
+
+            Comparator<Candidate> ranking = Comparator.comparingInt(Candidate::score)
+                    .thenComparing(Comparator.comparingInt(Candidate::seeker).reversed());
+            PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, ranking);
+            PriorityQueue<Cursor> cursors = new PriorityQueue<>(Math.max(1, skillPostings.size()),
+                    Comparator.comparingInt(Cursor::current));
+            skillPostings.forEach(postings -> cursors.add(new Cursor(postings)));
+            while (!cursors.isEmpty()) {
+                int seeker = cursors.peek().current();
+                int hits = 0;
+                while (!cursors.isEmpty() && cursors.peek().current() == seeker) {
+                    Cursor cursor = cursors.poll();
+                    hits++;
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                }
+                int score = SKILL_POINTS * hits + (containsAny(sectorPostings, seeker) ? SECTOR_POINTS : 0);
+                // Seekers arrive in ascending order, so a tie never displaces an earlier seeker
+                if (heap.size() < limit) {
+                    heap.add(new Candidate(seeker, score));
+                } else if (score > heap.peek().score()) {
+                    heap.poll();
+                    heap.add(new Candidate(seeker, score));
+                }
+            }
+
+            List<Candidate> ranked = new ArrayList<>(heap);
+            ranked.sort(ranking.reversed());
+            List<ScoredCandidate> candidates = new ArrayList<>(limit);
+            ranked.forEach(candidate -> candidates.add(
+                    new ScoredCandidate(corpus.seekerIds.get(candidate.seeker()), candidate.score())));
+            if (candidates.size() < limit) {
+                for (int seeker : mergeSectors(sectorPostings, skillPostings, limit - candidates.size())) {
+                    candidates.add(new ScoredCandidate(corpus.seekerIds.get(seeker), SECTOR_POINTS));
+                }
+            }
+            return candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One seeker's score for a job, as {@link #findCandidates} would rank them;
+     * zero when nothing matches or the index is not loaded yet.
+     */
+    public int score(JobTerms jobTerms, UUID seekerId) {
+        if (!changes.isLoaded()) {
+            return 0;
+        }
+
+        lock.readLock().lock();
+        try {
+            Integer seeker = corpus.ordinals.get(seekerId);
+            SeekerTerms terms = seeker != null ? corpus.seekerTerms.get(seeker) : null;
+            if (terms == null)
+                return 0;
+            int hits = terms.skills.overlap(jobTerms.skills()) + terms.words.overlap(jobTerms.titleWords());
+            boolean sectorMatch = false;
+            if (jobTerms.category() != CategoryTaxonomy.NONE) {
+                for (int i = 0; i < terms.sectors.size() && !sectorMatch; i++) {
+                    sectorMatch = categoryTaxonomy.related(terms.sectors.get(i), jobTerms.category());
+                }
+            }
+            return SKILL_POINTS * hits + (sectorMatch ? SECTOR_POINTS : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Corpus readCorpus() {
+        Corpus rebuilt = new Corpus();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<SeekerSkillView> skills = seekerSkillRepository.streamSeekerSkills()) {
+                skills.forEach(skill -> addSkill(rebuilt.terms(skill.getSeekerId()), skill.getSkill()));
+            }
+            try (Stream<SeekerSectorView> sectors = seekerSectorRepository.streamSeekerSectors()) {
+                sectors.forEach(sector -> addSector(rebuilt.terms(sector.getSeekerId()), sector.getSector()));
+            }
+        });
+        rebuilt.build();
+        return rebuilt;
+    }
+
+    private void install(Corpus rebuilt) {
+        corpus = rebuilt;
+    }
+
+    private void addSkill(SeekerTerms terms, String skill) {
+        String key = skillDictionary.normalize(skill);
+        if (key == null || key.length() < MIN_SKILL_LENGTH)
+            return;
+        String[] words = key.split(" ");
+        if (words.length <= MAX_PHRASE_WORDS) {
+            terms.skills.add(skillDictionary.id(key));
+        }
+        if (words.length == 1)
+            return;
+        for (String word : words) {
+            if (word.length() >= MIN_TITLE_WORD_LENGTH) {
+                terms.words.add(skillDictionary.id(word));
+            }
+        }
+    }
+
+    private void addSector(SeekerTerms terms, String sector) {
+        int id = categoryTaxonomy.categoryId(sector);
+        if (id != CategoryTaxonomy.NONE) {
+            terms.sectors.add(id);
+        }
+    }
+
+    private static boolean containsAny(List<SortedIntSet> postings, int seeker) {
+        for (SortedIntSet list : postings) {
+            if (list.contains(seeker))
+                return true;
+        }
+        return false;
+    }
+
+    // Smallest seeker numbers first across the sector lists, skipping seekers already ranked by skill
+    private static List<Integer> mergeSectors(List<SortedIntSet> postings, List<SortedIntSet> skillPostings,
+            int limit) {
+        List<Integer> merged = new ArrayList<>(limit);
+        int[] positions = new int[postings.size()];
+        while (merged.size() < limit) {
+            int next = Integer.MAX_VALUE;
+            for (int i = 0; i < postings.size(); i++) {
+                if (positions[i] < postings.get(i).size()) {
+                    next = Math.min(next, postings.get(i).get(positions[i]));
+                }
+            }
+            if (next == Integer.MAX_VALUE)
+                break;
+            for (int i = 0; i < postings.size(); i++) {
+                if (positions[i] < postings.get(i).size() && postings.get(i).get(positions[i]) == next) {
+                    positions[i]++;
+                }
+            }
+            if (!containsAny(skillPostings, next)) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    // Position in one posting list during the skill merge
+    private static final class Cursor {
+        private final SortedIntSet postings;
+        private int position;
+
+        Cursor(SortedIntSet postings) {
+            this.postings = postings;
+        }
+
+        int current() {
+            return postings.get(position);
+        }
+
+        boolean advance() {
+            return ++position < postings.size();
+        }
+    }
+
+    private static final class SeekerTerms {
+        // Whole skills, and the longer words within multi-word skills, as dictionary ids
+        private final SortedIntSet skills = new SortedIntSet();
+        private final SortedIntSet words = new SortedIntSet();
+        private final SortedIntSet sectors = new SortedIntSet();
+    }
+
+    private static final class Corpus {
+        // Posting lists indexed by dictionary id; null where no seeker has the term
+        private final List<SortedIntSet> skills = new ArrayList<>();
+        private final List<SortedIntSet> words = new ArrayList<>();
+        private final Map<Integer, SortedIntSet> sectors = new HashMap<>();
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> seekerIds = new ArrayList<>();
+        private final Map<Integer, SeekerTerms> seekerTerms = new HashMap<>();
+
+        SeekerTerms terms(UUID seekerId) {
+            return seekerTerms.computeIfAbsent(ordinal(seekerId), seeker -> new SeekerTerms());
+        }
+
+        // Bulk load: postings are appended in seeker order, so they come out already sorted
+        void build() {
+            seekerTerms.keySet().stream().sorted().forEach(seeker -> {
+                SeekerTerms terms = seekerTerms.get(seeker);
+                for (int i = 0; i < terms.skills.size(); i++) {
+                    postings(skills, terms.skills.get(i)).append(seeker);
+                }
+                for (int i = 0; i < terms.words.size(); i++) {
+                    postings(words, terms.words.get(i)).append(seeker);
+                }
+                for (int i = 0; i < terms.sectors.size(); i++) {
+                    sectors.computeIfAbsent(terms.sectors.get(i), key -> new SortedIntSet()).append(seeker);
+                }
+            });
+        }
+
+        void replace(UUID seekerId, SeekerTerms terms) {
+            int seeker = ordinal(seekerId);
+            SeekerTerms previous = seekerTerms.remove(seeker);
+            if (previous != null) {
+                for (int i = 0; i < previous.skills.size(); i++) {
+                    postings(skills, previous.skills.get(i)).remove(seeker);
+                }
+                for (int i = 0; i < previous.words.size(); i++) {
+                    postings(words, previous.words.get(i)).remove(seeker);
+                }
+                for (int i = 0; i < previous.sectors.size(); i++) {
+                    sectors.get(previous.sectors.get(i)).remove(seeker);
+                }
+            }
+            for (int i = 0; i < terms.skills.size(); i++) {
+                postings(skills, terms.skills.get(i)).add(seeker);
+            }
+            for (int i = 0; i < terms.words.size(); i++) {
+                postings(words, terms.words.get(i)).add(seeker);
+            }
+            for (int i = 0; i < terms.sectors.size(); i++) {
+                sectors.computeIfAbsent(terms.sectors.get(i), key -> new SortedIntSet()).add(seeker);
+            }
+            seekerTerms.put(seeker, terms);
+        }
+
+        List<SortedIntSet> skillPostings(JobTerms jobTerms) {
+            List<SortedIntSet> matched = new ArrayList<>();
+            collect(skills, jobTerms.skills(), matched);
+            collect(words, jobTerms.titleWords(), matched);
+            return matched;
+        }
+
+        private static void collect(List<SortedIntSet> postings, SortedIntSet ids, List<SortedIntSet> matched) {
+            for (int i = 0; i < ids.size(); i++) {
+                int id = ids.get(i);
+                if (id < postings.size() && postings.get(id) != null && !postings.get(id).isEmpty()) {
+                    matched.add(postings.get(id));
+                }
+            }
+        }
+
+        private static SortedIntSet postings(List<SortedIntSet> postings, int id) {
+            while (postings.size() <= id) {
+                postings.add(null);
+            }
+            SortedIntSet list = postings.get(id);
+            if (list == null) {
+                list = new SortedIntSet();
+                postings.set(id, list);
+            }
+            return list;
+        }
+
+        private int ordinal(UUID seekerId) {
+            return ordinals.computeIfAbsent(seekerId, id -> {
+                seekerIds.add(id);
+                return seekerIds.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsphere.jobsite.utils.SortedIntSet;
+import com.jobsphere.jobsite.utils.TextUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared dictionary of skill terms. A term is case folded, split into words,
+ * each word lightly stemmed ("databases" -> "database") and aliases from
+ * {@code taxonomy/skill-aliases.json} resolved ("js" -> "javascript") before it
+ * is given a dense int id, so skills can be matched as int sets.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillDictionary {
+    public static final int NONE = -1;
+
+    private static final String ALIASES_PATH = "taxonomy/skill-aliases.json";
+
+    private final ObjectMapper objectMapper;
+
+    // Normalized key -> id; read without locking, only added to while holding the monitor
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    // Normalized alias -> normalized canonical term; written once during load
+    private final Map<String, String> aliases = new HashMap<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        Map<String, List<String>> entries;
+        try (InputStream in = new ClassPathResource(ALIASES_PATH).getInputStream()) {
+            entries = objectMapper.readValue(in, new TypeReference<Map<String, List<String>>>() {
+            });
+        }
+        entries.forEach((canonical, names) -> {
+            String key = normalize(canonical);
+            for (String name : names) {
+                String alias = normalize(name);
+                if (alias != null && !alias.equals(key)) {
+                    aliases.put(alias, key);
+                }
+            }
+        });
+        log.info("Skill dictionary loaded with {} aliases", aliases.size());
+    }
+
+    /**
+     * Canonical key of a term, or null when nothing is left after normalization.
+     */
+    public String normalize(String term) {
+        List<String> words = TextUtils.terms(term);
+        if (words.isEmpty())
+            return null;
+        StringBuilder key = new StringBuilder();
+        for (String word : words) {
+            if (!key.isEmpty()) {
+                key.append(' ');
+            }
+            key.append(stem(word));
+        }
+        return canonical(key.toString());
+    }
+
+    /**
+     * Id of a term, assigning a new one on first sight.
+     */
+    public int id(String term) {
+        String key = normalize(term);
+        if (key == null)
+            return NONE;
+        Integer id = ids.get(key);
+        return id != null ? id : intern(key);
+    }
+
+    /**
+     * Id of a term already in the dictionary, or {@link #NONE}.
+     */
+    public int lookup(String term) {
+        String key = normalize(term);
+        if (key == null)
+            return NONE;
+        return ids.getOrDefault(key, NONE);
+    }
+
+    /**
+     * Ids of the known terms that occur in free text as runs of up to
+     * {@code maxWords} words. Unknown phrases are not added to the dictionary.
+     */
+    public SortedIntSet findIn(String text, int maxWords) {
+        SortedIntSet found = new SortedIntSet();
+        List<String> words = TextUtils.terms(text);
+        for (int i = 0; i < words.size(); i++) {
+            words.set(i, stem(words.get(i)));
+        }
+        for (int start = 0; start < words.size(); start++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int end = start; end < Math.min(start + maxWords, words.size()); end++) {
+                if (end > start) {
+                    phrase.append(' ');
+                }
+                phrase.append(words.get(end));
+                Integer id = ids.get(canonical(phrase.toString()));
+                if (id != null) {
+                    found.add(id);
+                }
+            }
+        }
+        return found;
+    }
+
+    public synchronized String key(int id) {
+        return id >= 0 && id < keys.size() ? keys.get(id) : null;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private synchronized int intern(String key) {
+        Integer id = ids.get(key);
+        if (id != null)
+            return id;
+        keys.add(key);
+        ids.put(key, keys.size() - 1);
+        return keys.size() - 1;
+    }
+
+    private String canonical(String key) {
+        return aliases.getOrDefault(key, key);
+    }
+
+    // Plural endings only; the result never ends in a strippable 's', so stemming twice is a no-op
+    private static String stem(String word) {
+        int length = word.length();
+        if (length > 4 && word.endsWith("ies"))
+            return word.substring(0, length - 3) + "y";
+        if (length > 4 && word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us")
+                && !word.endsWith("is"))
+            return word.substring(0, length - 1);
+        return word;
+    }
+}
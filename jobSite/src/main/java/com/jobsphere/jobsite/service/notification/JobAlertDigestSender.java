@@ -0,0 +1,117 @@
+package com.jobsphere.jobsite.service.notification;
+
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.notification.JobAlertDigestItem;
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertDigestItemRepository;
+import com.jobsphere.jobsite.service.job.JobChangedEvent;
+import com.jobsphere.jobsite.service.notification.NotificationService.JobAlertDelivery;
+import com.jobsphere.jobsite.service.notification.NotificationService.JobAlertDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends the hourly and daily job alert digests. Queued matches are claimed in
+ * batches ordered by seeker, rendered as one notification and queued email per
+ * seeker, and removed in the same transaction; JobAlertEmailSender delivers the
+ * emails once it has committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertDigestSender {
+    private final JobAlertDigestItemRepository digestItemRepository;
+    private final JobRepository jobRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobsphere.alerts.digest.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${jobsphere.alerts.digest.hourly-cron:0 0 * * * *}")
+    public void sendHourlyDigests() {
+        sendDigests(JobAlert.DELIVERY_HOURLY);
+    }
+
+    @Scheduled(cron = "${jobsphere.alerts.digest.daily-cron:0 0 8 * * *}")
+    public void sendDailyDigests() {
+        sendDigests(JobAlert.DELIVERY_DAILY);
+    }
+
+    private void sendDigests(String deliveryMode) {
+        // Matches queued while the run is in progress wait for the next one
+        Instant before = Instant.now();
+        int claimed;
+        do {
+            claimed = sendBatch(deliveryMode, before);
+        } while (claimed == batchSize);
+    }
+
+    private int sendBatch(String deliveryMode, Instant before) {
+        Integer claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> {
+                List<JobAlertDigestItem> items = digestItemRepository.claimDue(deliveryMode, before, batchSize);
+                if (items.isEmpty()) {
+                    return 0;
+                }
+                List<JobAlertDigestItem> batch = wholeDigests(items);
+                notificationService.createJobAlertDigestNotifications(buildDigests(deliveryMode, batch));
+                digestItemRepository.deleteAllInBatch(batch);
+                return items.size();
+            });
+        } catch (RuntimeException e) {
+            // Items stay queued and are picked up by the next run
+            log.error("Failed to send {} job alert digest batch", deliveryMode, e);
+            return 0;
+        }
+        return claimed != null ? claimed : 0;
+    }
+
+    // A full batch may stop partway through the last seeker's items; those are left for the next batch
+    private List<JobAlertDigestItem> wholeDigests(List<JobAlertDigestItem> items) {
+        if (items.size() < batchSize) {
+            return items;
+        }
+        UUID lastSeeker = items.get(items.size() - 1).getSeekerId();
+        List<JobAlertDigestItem> whole = items.stream()
+                .filter(item -> !item.getSeekerId().equals(lastSeeker))
+                .toList();
+        return whole.isEmpty() ? items : whole;
+    }
+
+    private List<JobAlertDigest> buildDigests(String deliveryMode, List<JobAlertDigestItem> items) {
+        Map<UUID, Job> jobs = jobRepository.findWithCompanyProfileAndAddressByIdIn(
+                items.stream().map(JobAlertDigestItem::getJobId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        Map<UUID, List<JobAlertDelivery>> bySeeker = new LinkedHashMap<>();
+        for (JobAlertDigestItem item : items) {
+            Job job = jobs.get(item.getJobId());
+            // Jobs closed or unlisted since they were queued are left out of the digest
+            if (job != null && JobChangedEvent.isListed(job)) {
+                bySeeker.computeIfAbsent(item.getSeekerId(), id -> new ArrayList<>())
+                        .add(new JobAlertDelivery(item.getSeekerId(), job.getTitle(),
+                                job.getCompanyProfile().getCompanyName()));
+            }
+        }
+        return bySeeker.entrySet().stream()
+                .map(entry -> new JobAlertDigest(entry.getKey(), deliveryMode, entry.getValue()))
+                .toList();
+    }
+}
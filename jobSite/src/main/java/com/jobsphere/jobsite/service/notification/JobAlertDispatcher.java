@@ -0,0 +1,156 @@
+package com.jobsphere.jobsite.service.notification;
+
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.notification.JobAlertOutbox;
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertDigestItemRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertMatchRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertOutboxRepository;
+import com.jobsphere.jobsite.service.job.JobAlertIndex;
+import com.jobsphere.jobsite.service.job.JobChangedEvent;
+import com.jobsphere.jobsite.service.notification.NotificationService.JobAlertDelivery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the job alert outbox. Each batch is claimed, matched against the alert
+ * index and turned into notifications and queued emails in one transaction;
+ * JobAlertEmailSender delivers the emails once that transaction has committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertDispatcher {
+    // Most urgent first; a seeker matched by several alerts gets the most urgent delivery once
+    private static final List<String> DELIVERY_URGENCY = List.of(
+            JobAlert.DELIVERY_INSTANT, JobAlert.DELIVERY_HOURLY, JobAlert.DELIVERY_DAILY);
+
+    private final JobAlertOutboxRepository outboxRepository;
+    private final JobAlertDigestItemRepository digestItemRepository;
+    private final JobAlertMatchRepository jobAlertMatchRepository;
+    private final JobRepository jobRepository;
+    private final JobAlertIndex jobAlertIndex;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobsphere.alerts.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${jobsphere.alerts.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${jobsphere.alerts.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${jobsphere.alerts.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == batchSize);
+    }
+
+    @Scheduled(cron = "${jobsphere.alerts.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed job alert outbox entries", deleted);
+    }
+
+    private int dispatchBatch() {
+        List<UUID> claimed = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<JobAlertOutbox> batch = outboxRepository.claimPending(batchSize);
+                batch.forEach(entry -> claimed.add(entry.getId()));
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to dispatch job alert outbox batch of {} entries", claimed.size(), e);
+            recordFailure(claimed, e);
+            return 0;
+        }
+        return claimed.size();
+    }
+
+    private void process(List<JobAlertOutbox> batch) {
+        Map<UUID, Job> jobs = jobRepository.findWithCompanyProfileAndAddressByIdIn(
+                batch.stream().map(JobAlertOutbox::getJobId).toList())
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        List<JobAlertDelivery> deliveries = new ArrayList<>();
+        int digestItems = 0;
+        Instant now = Instant.now();
+        for (JobAlertOutbox entry : batch) {
+            Job job = jobs.get(entry.getJobId());
+            // Jobs closed or unlisted before the entry was dispatched no longer notify anyone
+            if (job != null && JobChangedEvent.isListed(job)) {
+                String companyName = job.getCompanyProfile().getCompanyName();
+                Map<UUID, String> modes = new HashMap<>();
+                jobAlertIndex.findMatchingAlerts(JobMatchView.from(job))
+                        .forEach(alert -> modes.merge(alert.seekerId(), alert.deliveryMode(), this::moreUrgent));
+                if (!modes.isEmpty()) {
+                    jobAlertMatchRepository.recordJobMatches(job.getId(), modes.keySet());
+                }
+                for (Map.Entry<UUID, String> match : modes.entrySet()) {
+                    if (JobAlert.DELIVERY_INSTANT.equals(match.getValue())) {
+                        deliveries.add(new JobAlertDelivery(match.getKey(), job.getTitle(), companyName));
+                    } else {
+                        digestItems += digestItemRepository.enqueue(match.getKey(), job.getId(), match.getValue());
+                    }
+                }
+            }
+            entry.setStatus(JobAlertOutbox.STATUS_DONE);
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setProcessedAt(now);
+        }
+
+        log.info("Dispatching {} instant job alert matches and queued {} digest items for {} outbox entries",
+                deliveries.size(), digestItems, batch.size());
+        notificationService.createJobAlertNotifications(deliveries);
+    }
+
+    private String moreUrgent(String a, String b) {
+        return DELIVERY_URGENCY.indexOf(a) <= DELIVERY_URGENCY.indexOf(b) ? a : b;
+    }
+
+    private void recordFailure(List<UUID> entryIds, RuntimeException error) {
+        if (entryIds.isEmpty())
+            return;
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.findAllById(entryIds)
+                    .forEach(entry -> {
+                        int attempts = entry.getAttempts() + 1;
+                        entry.setAttempts(attempts);
+                        entry.setLastError(String.valueOf(error.getMessage()));
+                        if (attempts >= maxAttempts) {
+                            entry.setStatus(JobAlertOutbox.STATUS_FAILED);
+                        } else {
+                            // Exponential backoff: 30s, 60s, 120s, ...
+                            entry.setAvailableAt(Instant.now().plusSeconds(30L << (attempts - 1)));
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.error("Failed to record job alert outbox failure for {}", entryIds, e);
+        }
+    }
+}
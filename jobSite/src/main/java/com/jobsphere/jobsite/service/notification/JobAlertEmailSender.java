@@ -0,0 +1,99 @@
+package com.jobsphere.jobsite.service.notification;
+
+import com.jobsphere.jobsite.model.notification.JobAlertEmail;
+import com.jobsphere.jobsite.repository.notification.JobAlertEmailRepository;
+import com.jobsphere.jobsite.service.shared.EmailNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Sends the job alert and digest emails queued by JobAlertDispatcher and
+ * JobAlertDigestSender. Each batch stays locked while it is sent and an email
+ * is only marked SENT once the mail server accepted it; a failed send backs off
+ * and is retried, so a crash re-sends at most the batch in flight.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertEmailSender {
+    private final JobAlertEmailRepository emailRepository;
+    private final EmailNotificationService emailNotificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobsphere.alerts.emails.batch-size:50}")
+    private int batchSize;
+
+    @Value("${jobsphere.alerts.emails.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${jobsphere.alerts.emails.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${jobsphere.alerts.emails.poll-interval-ms:5000}")
+    public void send() {
+        int claimed;
+        do {
+            claimed = sendBatch();
+        } while (claimed == batchSize);
+    }
+
+    @Scheduled(cron = "${jobsphere.alerts.emails.cleanup-cron:0 45 3 * * *}")
+    public void purgeSent() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(retentionDays));
+        Integer deleted = transactionTemplate.execute(status -> emailRepository.deleteSentBefore(cutoff));
+        log.info("Purged {} sent job alert emails", deleted);
+    }
+
+    private int sendBatch() {
+        Integer claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> {
+                List<JobAlertEmail> batch = emailRepository.claimPending(batchSize);
+                int sent = 0;
+                for (JobAlertEmail email : batch) {
+                    if (sendOne(email)) {
+                        sent++;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    log.info("Sent {} of {} job alert emails", sent, batch.size());
+                }
+                return batch.size();
+            });
+        } catch (RuntimeException e) {
+            // Nothing was marked sent; the batch is claimed again on the next poll
+            log.error("Failed to send job alert email batch", e);
+            return 0;
+        }
+        return claimed != null ? claimed : 0;
+    }
+
+    private boolean sendOne(JobAlertEmail email) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        try {
+            emailNotificationService.sendCustomEmail(email.getToEmail(), email.getSubject(), email.getHtmlContent());
+            email.setStatus(JobAlertEmail.STATUS_SENT);
+            email.setSentAt(Instant.now());
+            email.setLastError(null);
+            return true;
+        } catch (RuntimeException e) {
+            email.setLastError(String.valueOf(e.getMessage()));
+            if (attempts >= maxAttempts) {
+                email.setStatus(JobAlertEmail.STATUS_FAILED);
+            } else {
+                // Exponential backoff: 30s, 60s, 120s, ...
+                email.setAvailableAt(Instant.now().plusSeconds(30L << (attempts - 1)));
+            }
+            return false;
+        }
+    }
+}
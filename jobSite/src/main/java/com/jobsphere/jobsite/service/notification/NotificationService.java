@@ -1,11 +1,14 @@
 package com.jobsphere.jobsite.service.notification;
 
 import com.jobsphere.jobsite.model.User;
+import com.jobsphere.jobsite.model.notification.JobAlertEmail;
 import com.jobsphere.jobsite.model.notification.Notification;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertEmailRepository;
 import com.jobsphere.jobsite.repository.notification.NotificationRepository;
 import com.jobsphere.jobsite.service.shared.EmailNotificationService;
 import com.jobsphere.jobsite.utils.EmailTemplateBuilder;
+import com.jobsphere.jobsite.utils.TextUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,13 +17,21 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
+    private static final int DIGEST_MAX_JOBS = 20;
+
     private final NotificationRepository notificationRepository;
+    private final JobAlertEmailRepository jobAlertEmailRepository;
     private final UserRepository userRepository;
     private final EmailNotificationService emailNotificationService;
     private final EmailTemplateBuilder emailTemplateBuilder;
@@ -132,13 +143,115 @@ public class NotificationService {
         createNotificationWithEmail(employerUserId, title, message, emailSubject, emailContent);
     }
 
-    @Async
-    public void notifyJobAlertMatch(UUID seekerUserId, String jobTitle, String companyName) {
-        log.info("Notifying job alert match for seeker: {} and job: {}", seekerUserId, jobTitle);
-        String title = "New Job Match Found!";
-        String message = "A new job at " + companyName + " matches your alerts: " + jobTitle;
-        String emailSubject = "Instant Match: " + jobTitle;
-        String emailContent = "<div style='font-family: sans-serif; padding: 20px; color: #1e293b;'>" +
+    public record JobAlertDelivery(UUID seekerUserId, String jobTitle, String companyName) {
+    }
+
+    public record JobAlertDigest(UUID seekerUserId, String deliveryMode, List<JobAlertDelivery> jobs) {
+    }
+
+    // Emails are queued in the caller's transaction and sent by JobAlertEmailSender once it commits
+    @Transactional
+    public void createJobAlertNotifications(List<JobAlertDelivery> deliveries) {
+        if (deliveries.isEmpty())
+            return;
+
+        Map<UUID, User> users = findUsers(
+                deliveries.stream().map(JobAlertDelivery::seekerUserId).collect(Collectors.toSet()));
+
+        List<Notification> notifications = new ArrayList<>(deliveries.size());
+        List<JobAlertEmail> emails = new ArrayList<>(deliveries.size());
+        for (JobAlertDelivery delivery : deliveries) {
+            User user = users.get(delivery.seekerUserId());
+            if (user == null) {
+                log.warn("User with id {} not found for job alert notification", delivery.seekerUserId());
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .user(user)
+                    .title("New Job Match Found!")
+                    .message("A new job at " + delivery.companyName() + " matches your alerts: "
+                            + delivery.jobTitle())
+                    .build());
+            emails.add(jobAlertEmail(user.getEmail(), "Instant Match: " + delivery.jobTitle(),
+                    buildJobAlertEmail(delivery.jobTitle(), delivery.companyName())));
+        }
+
+        notificationRepository.saveAll(notifications);
+        jobAlertEmailRepository.saveAll(emails);
+        log.info("Created {} job alert notifications", notifications.size());
+    }
+
+    // One notification and one email per seeker, however many jobs the digest holds
+    @Transactional
+    public void createJobAlertDigestNotifications(List<JobAlertDigest> digests) {
+        if (digests.isEmpty())
+            return;
+
+        Map<UUID, User> users = findUsers(
+                digests.stream().map(JobAlertDigest::seekerUserId).collect(Collectors.toSet()));
+
+        List<Notification> notifications = new ArrayList<>(digests.size());
+        List<JobAlertEmail> emails = new ArrayList<>(digests.size());
+        for (JobAlertDigest digest : digests) {
+            User user = users.get(digest.seekerUserId());
+            if (user == null) {
+                log.warn("User with id {} not found for job alert digest", digest.seekerUserId());
+                continue;
+            }
+            int count = digest.jobs().size();
+            String period = "HOURLY".equals(digest.deliveryMode()) ? "hour" : "day";
+            String jobs = count == 1 ? "1 new job" : count + " new jobs";
+            notifications.add(Notification.builder()
+                    .user(user)
+                    .title("Your Job Alert Digest")
+                    .message(jobs + " matched your alerts in the last " + period)
+                    .build());
+            emails.add(jobAlertEmail(user.getEmail(), "Job Alert Digest: " + jobs + " for you",
+                    buildJobAlertDigestEmail(digest.jobs(), jobs, period)));
+        }
+
+        notificationRepository.saveAll(notifications);
+        jobAlertEmailRepository.saveAll(emails);
+        log.info("Created {} job alert digest notifications", notifications.size());
+    }
+
+    private Map<UUID, User> findUsers(Set<UUID> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+    }
+
+    // Job titles run longer than the subject column, so long subjects are cut to fit it
+    private static JobAlertEmail jobAlertEmail(String toEmail, String subject, String htmlContent) {
+        return JobAlertEmail.builder()
+                .toEmail(toEmail)
+                .subject(TextUtils.snippet(subject, JobAlertEmail.SUBJECT_MAX_LENGTH))
+                .htmlContent(htmlContent)
+                .build();
+    }
+
+    private String buildJobAlertDigestEmail(List<JobAlertDelivery> jobs, String headline, String period) {
+        StringBuilder items = new StringBuilder();
+        for (JobAlertDelivery job : jobs.subList(0, Math.min(jobs.size(), DIGEST_MAX_JOBS))) {
+            items.append("<div style='background: #f8fafc; padding: 16px 20px; border-radius: 12px; border: 1px solid #e2e8f0; margin: 12px 0;'>")
+                    .append("<h3 style='margin: 0; color: #0f172a;'>").append(job.jobTitle()).append("</h3>")
+                    .append("<p style='color: #64748b; margin: 5px 0 0;'>").append(job.companyName()).append("</p>")
+                    .append("</div>");
+        }
+        if (jobs.size() > DIGEST_MAX_JOBS) {
+            items.append("<p style='color: #64748b;'>...and ").append(jobs.size() - DIGEST_MAX_JOBS)
+                    .append(" more.</p>");
+        }
+        return "<div style='font-family: sans-serif; padding: 20px; color: #1e293b;'>" +
+                "<h2 style='color: #6366f1;'>" + headline + " for you</h2>" +
+                "<p>These jobs matched your saved alerts in the last " + period + ":</p>" +
+                items +
+                "<a href='#' style='background: #6366f1; color: white; padding: 12px 24px; border-radius: 8px; text-decoration: none; font-weight: bold; display: inline-block;'>View All Matches</a>"
+                +
+                "</div>";
+    }
+
+    private String buildJobAlertEmail(String jobTitle, String companyName) {
+        return "<div style='font-family: sans-serif; padding: 20px; color: #1e293b;'>" +
                 "<h2 style='color: #6366f1;'>Exciting Match Found!</h2>" +
                 "<p>We found a new job that matches your saved alerts:</p>" +
                 "<div style='background: #f8fafc; padding: 20px; border-radius: 12px; border: 1px solid #e2e8f0; margin: 20px 0;'>"
@@ -150,7 +263,5 @@ public class NotificationService {
                 "<a href='#' style='background: #6366f1; color: white; padding: 12px 24px; border-radius: 8px; text-decoration: none; font-weight: bold; display: inline-block;'>View Job Details</a>"
                 +
                 "</div>";
-
-        createNotificationWithEmail(seekerUserId, title, message, emailSubject, emailContent);
     }
 }
@@ -0,0 +1,16 @@
+package com.jobsphere.jobsite.service.seeker;
+
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+
+import java.util.UUID;
+
+/**
+ * An alert was created, removed or edited; {@code matchingChanged} is false
+ * when the edit cannot change which jobs the alert matches (delivery mode).
+ */
+public record JobAlertChangedEvent(
+        JobAlert alert,
+        UUID seekerId,
+        boolean removed,
+        boolean matchingChanged) {
+}
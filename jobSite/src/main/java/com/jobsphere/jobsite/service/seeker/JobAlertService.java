@@ -14,10 +14,13 @@ import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
 import com.jobsphere.jobsite.service.shared.AuthenticationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,11 +28,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class JobAlertService {
+    private static final Set<String> DELIVERY_MODES = Set.of(
+            JobAlert.DELIVERY_INSTANT, JobAlert.DELIVERY_HOURLY, JobAlert.DELIVERY_DAILY);
+
     private final JobAlertRepository jobAlertRepository;
     private final SeekerRepository seekerRepository;
     private final SeekerSectorRepository seekerSectorRepository;
     private final SeekerSkillRepository seekerSkillRepository;
     private final AuthenticationService authenticationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public JobAlertResponse createAlert(JobAlertRequest request) {
@@ -49,9 +56,11 @@ public class JobAlertService {
                 .jobType(request.jobType())
                 .preferredLocation(request.preferredLocation())
                 .isActive(true)
+                .deliveryMode(resolveDeliveryMode(request.deliveryMode()))
                 .build();
 
         alert = jobAlertRepository.save(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alert, seeker.getId(), false, true));
         log.info("Job alert created: {} for seeker: {}", alert.getId(), seeker.getId());
 
         return mapToResponse(alert);
@@ -89,11 +98,24 @@ public class JobAlertService {
                     .category(sectors.isEmpty() ? null : sectors.get(0))
                     .isActive(true)
                     .build();
-            jobAlertRepository.save(alert);
+            alert = jobAlertRepository.save(alert);
+            eventPublisher.publishEvent(new JobAlertChangedEvent(alert, userId, false, true));
             log.info("Auto-generated job alert based on profile for seeker: {}", userId);
         }
     }
 
+    @Transactional(readOnly = true)
+    public JobAlertResponse getAlert(UUID alertId) {
+        UUID userId = authenticationService.getCurrentUserId();
+        JobAlert alert = jobAlertRepository.findById(alertId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job alert not found"));
+
+        if (!alert.getSeeker().getId().equals(userId)) {
+            throw new IllegalStateException("You can only view your own alerts");
+        }
+        return mapToResponse(alert);
+    }
+
     @Transactional(readOnly = true)
     public List<JobAlertResponse> getMyAlerts() {
         UUID userId = authenticationService.getCurrentUserId();
@@ -113,6 +135,7 @@ public class JobAlertService {
         }
 
         jobAlertRepository.delete(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alert, userId, true, true));
         log.info("Job alert deleted: {}", alertId);
     }
 
@@ -127,12 +150,45 @@ public class JobAlertService {
         }
 
         alert.setIsActive(!alert.getIsActive());
+        if (alert.getIsActive()) {
+            // Re-enabled alerts are matched against the open jobs again
+            alert.setBackfillStatus(JobAlert.BACKFILL_PENDING);
+        }
         alert = jobAlertRepository.save(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alert, userId, false, true));
         log.info("Job alert toggle: {} status is now {}", alertId, alert.getIsActive());
 
         return mapToResponse(alert);
     }
 
+    @Transactional
+    public JobAlertResponse updateDeliveryMode(UUID alertId, String deliveryMode) {
+        UUID userId = authenticationService.getCurrentUserId();
+        JobAlert alert = jobAlertRepository.findById(alertId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job alert not found"));
+
+        if (!alert.getSeeker().getId().equals(userId)) {
+            throw new IllegalStateException("You can only update your own alerts");
+        }
+
+        alert.setDeliveryMode(resolveDeliveryMode(deliveryMode));
+        alert = jobAlertRepository.save(alert);
+        eventPublisher.publishEvent(new JobAlertChangedEvent(alert, userId, false, false));
+        log.info("Job alert {} delivery mode set to {}", alertId, alert.getDeliveryMode());
+
+        return mapToResponse(alert);
+    }
+
+    private String resolveDeliveryMode(String deliveryMode) {
+        if (deliveryMode == null || deliveryMode.isBlank())
+            return JobAlert.DELIVERY_INSTANT;
+        String mode = deliveryMode.trim().toUpperCase(Locale.ROOT);
+        if (!DELIVERY_MODES.contains(mode)) {
+            throw new IllegalArgumentException("Delivery mode must be one of INSTANT, HOURLY or DAILY");
+        }
+        return mode;
+    }
+
     private JobAlertResponse mapToResponse(JobAlert alert) {
         return new JobAlertResponse(
                 alert.getId(),
@@ -142,6 +198,9 @@ public class JobAlertService {
                 alert.getJobType(),
                 alert.getPreferredLocation(),
                 alert.getIsActive(),
+                alert.getDeliveryMode(),
+                alert.getBackfillStatus(),
+                alert.getBackfillMatchCount(),
                 alert.getCreatedAt());
     }
 }
@@ -75,6 +75,7 @@ public class SeekerBioService {
                 .build();
         
         seekerBioRepository.save(seekerBio);
+        seekerRepository.bumpProfileVersion(seekerId);
         
         return BioDto.builder()
                 .title(seekerBio.getTitle())
@@ -106,6 +107,7 @@ public class SeekerBioService {
         }
         
         seekerBioRepository.save(seekerBio);
+        seekerRepository.bumpProfileVersion(seekerId);
         
         return BioDto.builder()
                 .title(seekerBio.getTitle())
@@ -120,6 +122,7 @@ public class SeekerBioService {
         UUID seekerId = user.getId();
         
         seekerBioRepository.deleteBySeekerId(seekerId);
+        seekerRepository.bumpProfileVersion(seekerId);
     }
 }
 
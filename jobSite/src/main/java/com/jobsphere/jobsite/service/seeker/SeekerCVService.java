@@ -104,6 +104,7 @@ public class SeekerCVService {
             seeker.setCvUrl(savedCV.getCvUrl());
             seekerRepository.save(seeker);
         }
+        seekerRepository.bumpProfileVersion(seekerId);
 
         return CVDto.builder()
                 .id(savedCV.getId())
@@ -76,6 +76,7 @@ public class SeekerDetailsService {
         String imageUrl = cloudinaryFileService.uploadImage(file, "seekers/profile");
         seeker.setProfileImageUrl(imageUrl);
         seekerRepository.save(seeker);
+        seekerRepository.bumpProfileVersion(seekerId);
 
         return MediaDto.builder()
                 .profileImageUrl(seeker.getProfileImageUrl())
@@ -98,6 +99,7 @@ public class SeekerDetailsService {
             }
             seeker.setProfileImageUrl(null);
             seekerRepository.save(seeker);
+            seekerRepository.bumpProfileVersion(seekerId);
         }
 
         if (seeker == null) {
@@ -149,6 +151,7 @@ public class SeekerDetailsService {
                             .build();
                     seekerCVRepository.save(cv);
                 });
+        seekerRepository.bumpProfileVersion(seekerId);
 
         return MediaDto.builder()
                 .profileImageUrl(seeker.getProfileImageUrl())
@@ -179,6 +182,7 @@ public class SeekerDetailsService {
             }
             seeker.setCvUrl(null);
             seekerRepository.save(seeker);
+            seekerRepository.bumpProfileVersion(seekerId);
         }
 
         if (seeker == null) {
@@ -0,0 +1,38 @@
+package com.jobsphere.jobsite.service.seeker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobsphere.jobsite.dto.seeker.FullProfileResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Full seeker profiles keyed by seeker id and profile version. A profile change
+ * bumps the version, so stale entries are simply never asked for again and age
+ * out; nothing has to be invalidated.
+ */
+@Component
+public class SeekerProfileCache {
+    private final Cache<Key, FullProfileResponse> cache;
+
+    private record Key(UUID seekerId, long version) {
+    }
+
+    public SeekerProfileCache(
+            @Value("${jobsphere.seekers.profile-cache.max-size:10000}") long maxSize,
+            @Value("${jobsphere.seekers.profile-cache.ttl-seconds:1800}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // A null result (profile not found) is not cached
+    public FullProfileResponse get(UUID seekerId, long version, Function<UUID, FullProfileResponse> loader) {
+        return cache.get(new Key(seekerId, version), key -> loader.apply(key.seekerId()));
+    }
+}
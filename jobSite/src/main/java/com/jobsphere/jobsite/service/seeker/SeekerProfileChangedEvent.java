@@ -0,0 +1,9 @@
+package com.jobsphere.jobsite.service.seeker;
+
+import java.util.UUID;
+
+/**
+ * A seeker's skills or sectors changed; listeners reload them for {@code seekerId}.
+ */
+public record SeekerProfileChangedEvent(UUID seekerId) {
+}
@@ -7,6 +7,7 @@ import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.seeker.SeekerProject;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerProjectRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerProjectImageRepository;
 import com.jobsphere.jobsite.model.seeker.SeekerProjectImage;
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 public class SeekerProjectService {
     private final SeekerProjectRepository seekerProjectRepository;
     private final SeekerProjectImageRepository seekerProjectImageRepository;
+    private final SeekerRepository seekerRepository;
     private final UserRepository userRepository;
     private final CloudinaryFileService cloudinaryFileService;
 
@@ -97,6 +99,7 @@ public class SeekerProjectService {
             }
         }
 
+        seekerRepository.bumpProfileVersion(seekerId);
         return mapToDto(savedProject);
     }
 
@@ -150,6 +153,7 @@ public class SeekerProjectService {
         }
 
         SeekerProject savedProject = seekerProjectRepository.save(project);
+        seekerRepository.bumpProfileVersion(seekerId);
         return mapToDto(savedProject);
     }
 
@@ -177,6 +181,7 @@ public class SeekerProjectService {
         }
 
         seekerProjectRepository.delete(project);
+        seekerRepository.bumpProfileVersion(seekerId);
     }
 
     @Transactional(readOnly = true)
@@ -7,8 +7,10 @@ import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.seeker.SeekerSector;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +23,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SeekerSectorService {
     private final SeekerSectorRepository seekerSectorRepository;
+    private final SeekerRepository seekerRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User getAuthenticatedUser() {
         return userRepository.findByEmail(
@@ -68,6 +72,8 @@ public class SeekerSectorService {
                 .build();
 
         SeekerSector saved = seekerSectorRepository.save(seekerSector);
+        seekerRepository.bumpProfileVersion(seekerId);
+        eventPublisher.publishEvent(new SeekerProfileChangedEvent(seekerId));
 
         return SectorDto.builder()
                 .id(saved.getSeekerId())
@@ -89,5 +95,7 @@ public class SeekerSectorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sector not found"));
 
         seekerSectorRepository.delete(sector);
+        seekerRepository.bumpProfileVersion(seekerId);
+        eventPublisher.publishEvent(new SeekerProfileChangedEvent(seekerId));
     }
 }
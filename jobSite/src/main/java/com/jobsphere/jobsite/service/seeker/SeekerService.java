@@ -1,5 +1,7 @@
 package com.jobsphere.jobsite.service.seeker;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobsphere.jobsite.constant.UserType;
 import com.jobsphere.jobsite.dto.seeker.*;
 import com.jobsphere.jobsite.model.seeker.*;
@@ -13,15 +15,22 @@ import com.jobsphere.jobsite.service.shared.CloudinaryImageService;
 import com.jobsphere.jobsite.exception.AuthException;
 import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,6 +47,10 @@ public class SeekerService {
     private final SeekerTagRepository seekerTagRepository;
     private final SeekerSocialLinkRepository seekerSocialLinkRepository;
     private final SeekerCVRepository seekerCVRepository;
+    private final ObjectMapper objectMapper;
+    private final SeekerProfileCache seekerProfileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User getAuthenticatedUser() {
         org.springframework.security.core.Authentication authentication = SecurityContextHolder.getContext()
@@ -82,7 +95,9 @@ public class SeekerService {
             throw new AuthException("Seeker profile already exists");
         }
         Seeker seeker = buildSeeker(userId, request);
-        return mapToResponse(seekerRepository.save(seeker), user);
+        seeker = seekerRepository.save(seeker);
+        seekerRepository.bumpProfileVersion(userId);
+        return mapToResponse(seeker, user);
     }
 
     @Transactional
@@ -98,7 +113,9 @@ public class SeekerService {
             updateSeekerFields(seeker, request);
         }
 
-        return mapToResponse(seekerRepository.save(seeker), user);
+        seeker = seekerRepository.save(seeker);
+        seekerRepository.bumpProfileVersion(userId);
+        return mapToResponse(seeker, user);
     }
 
     @Transactional
@@ -113,6 +130,7 @@ public class SeekerService {
         } else {
             updateSeekerFields(seeker, request);
         }
+        seekerRepository.bumpProfileVersion(userId);
         return mapToResponse(seeker, user);
     }
 
@@ -133,24 +151,118 @@ public class SeekerService {
         return mapToResponse(seeker, user);
     }
 
+    // A primary-key read, enough to answer If-None-Match without assembling the profile
+    @Transactional(readOnly = true)
+    public long getProfileVersion(UUID seekerId) {
+        return seekerRepository.findProfileVersionById(seekerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Seeker profile not found"));
+    }
+
+    public FullProfileResponse getFullProfile(UUID seekerId, long version) {
+        return seekerProfileCache.get(seekerId, version,
+                id -> transactionTemplate.execute(status -> getFullProfileById(id)));
+    }
+
+    /**
+     * One seeker's full profile, assembled by Postgres into a single JSON document
+     * so the employer profile screen costs one round trip instead of one per table.
+     */
     @Transactional(readOnly = true)
     public FullProfileResponse getFullProfileById(UUID seekerId) {
-        Seeker seeker = seekerRepository.findById(seekerId)
+        String json = seekerRepository.findFullProfileJsonById(seekerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Seeker profile not found"));
-        User user = userRepository.findById(seekerId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        ProfileDocument document;
+        try {
+            document = objectMapper.readValue(json, ProfileDocument.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable profile document for seeker " + seekerId, e);
+        }
+        return mapToFullProfile(document.seeker(), User.builder().id(seekerId).email(document.email()).build(),
+                document.address(), document.bio(),
+                Objects.requireNonNullElse(document.skills(), List.of()),
+                Objects.requireNonNullElse(document.projects(), List.of()),
+                Objects.requireNonNullElse(document.sectors(), List.of()),
+                Objects.requireNonNullElse(document.tags(), List.of()),
+                Objects.requireNonNullElse(document.socialLinks(), List.of()),
+                document.cv());
+    }
 
-        BasicInfoResponse basicInfo = mapToResponse(seeker, user);
+    // Shape of SeekerRepository.findFullProfileJsonById; entities here are detached value holders
+    private record ProfileDocument(Seeker seeker, String email, Address address, SeekerBio bio,
+            List<SeekerSkill> skills, List<SeekerProject> projects, List<SeekerSector> sectors,
+            List<SeekerTag> tags, List<SeekerSocialLink> socialLinks, SeekerCV cv) {
+    }
 
-        BioDto bio = seekerBioRepository.findBySeekerId(seekerId)
-                .map(b -> BioDto.builder().title(b.getTitle()).bio(b.getBio()).build())
-                .orElse(BioDto.builder().build());
+    /**
+     * Full profiles for the given seekers, in the same order. Every table is read
+     * once for the whole batch; seekers without a profile or user are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<FullProfileResponse> getFullProfilesByIds(List<UUID> seekerIds) {
+        if (seekerIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Seeker> seekers = seekerRepository.findAllById(seekerIds).stream()
+                .collect(Collectors.toMap(Seeker::getId, Function.identity()));
+        Map<UUID, User> users = userRepository.findAllById(seekerIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Set<UUID> addressIds = seekers.values().stream()
+                .map(Seeker::getAddressId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Address> addresses = addressIds.isEmpty() ? Map.of()
+                : addressRepository.findAllById(addressIds).stream()
+                        .collect(Collectors.toMap(Address::getId, Function.identity()));
+
+        Map<UUID, SeekerBio> bios = seekerBioRepository.findBySeekerIdIn(seekerIds).stream()
+                .collect(Collectors.toMap(SeekerBio::getSeekerId, Function.identity()));
+        Map<UUID, List<SeekerSkill>> skills = seekerSkillRepository.findBySeekerIdIn(seekerIds).stream()
+                .collect(Collectors.groupingBy(SeekerSkill::getSeekerId));
+        Map<UUID, List<SeekerProject>> projects = seekerProjectRepository.findWithImagesBySeekerIdIn(seekerIds)
+                .stream()
+                .collect(Collectors.groupingBy(SeekerProject::getSeekerId));
+        Map<UUID, List<SeekerSector>> sectors = seekerSectorRepository.findBySeekerIdIn(seekerIds).stream()
+                .collect(Collectors.groupingBy(SeekerSector::getSeekerId));
+        Map<UUID, List<SeekerTag>> tags = seekerTagRepository.findBySeekerIdIn(seekerIds).stream()
+                .collect(Collectors.groupingBy(SeekerTag::getSeekerId));
+        Map<UUID, List<SeekerSocialLink>> socialLinks = seekerSocialLinkRepository.findBySeekerIdIn(seekerIds)
+                .stream()
+                .collect(Collectors.groupingBy(SeekerSocialLink::getSeekerId));
+        Map<UUID, SeekerCV> cvs = seekerCVRepository.findBySeekerIdIn(seekerIds).stream()
+                .collect(Collectors.toMap(SeekerCV::getSeekerId, Function.identity(), (a, b) -> a));
+
+        List<FullProfileResponse> profiles = new ArrayList<>(seekerIds.size());
+        for (UUID seekerId : seekerIds) {
+            Seeker seeker = seekers.get(seekerId);
+            User user = users.get(seekerId);
+            if (seeker == null || user == null)
+                continue;
+            Address address = seeker.getAddressId() != null ? addresses.get(seeker.getAddressId()) : null;
+            profiles.add(mapToFullProfile(seeker, user, address, bios.get(seekerId),
+                    skills.getOrDefault(seekerId, List.of()),
+                    projects.getOrDefault(seekerId, List.of()),
+                    sectors.getOrDefault(seekerId, List.of()),
+                    tags.getOrDefault(seekerId, List.of()),
+                    socialLinks.getOrDefault(seekerId, List.of()),
+                    cvs.get(seekerId)));
+        }
+        return profiles;
+    }
 
-        List<SkillDto> skills = seekerSkillRepository.findBySeekerId(seekerId).stream()
+    private FullProfileResponse mapToFullProfile(Seeker seeker, User user, Address address, SeekerBio seekerBio,
+            List<SeekerSkill> seekerSkills, List<SeekerProject> seekerProjects, List<SeekerSector> seekerSectors,
+            List<SeekerTag> seekerTags, List<SeekerSocialLink> seekerSocialLinks, SeekerCV seekerCV) {
+        BasicInfoResponse basicInfo = mapToResponse(seeker, user, address);
+
+        BioDto bio = seekerBio != null
+                ? BioDto.builder().title(seekerBio.getTitle()).bio(seekerBio.getBio()).build()
+                : BioDto.builder().build();
+
+        List<SkillDto> skills = seekerSkills.stream()
                 .map(s -> SkillDto.builder().id(s.getId()).skill(s.getSkill()).proficiency(s.getProficiency()).build())
                 .collect(Collectors.toList());
 
-        List<ProjectDto> projects = seekerProjectRepository.findBySeekerId(seekerId).stream()
+        List<ProjectDto> projects = seekerProjects.stream()
                 .map(p -> ProjectDto.builder()
                         .id(p.getId())
                         .title(p.getTitle())
@@ -164,31 +276,34 @@ public class SeekerService {
                         .build())
                 .collect(Collectors.toList());
 
-        List<SectorDto> sectors = seekerSectorRepository.findBySeekerId(seekerId).stream()
+        List<SectorDto> sectors = seekerSectors.stream()
                 .map(s -> SectorDto.builder().id(s.getId()).sector(s.getSector()).build())
                 .collect(Collectors.toList());
 
-        List<TagDto> tags = seekerTagRepository.findBySeekerId(seekerId).stream()
+        List<TagDto> tags = seekerTags.stream()
                 .map(t -> TagDto.builder().tag(t.getTag()).build())
                 .collect(Collectors.toList());
 
-        List<SocialLinkDto> socialLinks = seekerSocialLinkRepository.findBySeekerId(seekerId).stream()
+        List<SocialLinkDto> socialLinks = seekerSocialLinks.stream()
                 .map(s -> SocialLinkDto.builder().platform(s.getPlatform()).url(s.getUrl()).build())
                 .collect(Collectors.toList());
 
-        CVDto cv = seekerCVRepository.findBySeekerId(seekerId)
-                .map(c -> CVDto.builder()
-                        .id(c.getId())
-                        .title(c.getTitle())
-                        .about(c.getAbout())
-                        .cvUrl(c.getCvUrl() != null ? c.getCvUrl() : seeker.getCvUrl())
-                        .fileName(c.getFileName())
-                        .fileSize(c.getFileSize())
-                        .details(c.getDetails())
-                        .build())
-                .orElseGet(() -> seeker.getCvUrl() != null
-                        ? CVDto.builder().cvUrl(seeker.getCvUrl()).fileName("CV.pdf").build()
-                        : null);
+        CVDto cv;
+        if (seekerCV != null) {
+            cv = CVDto.builder()
+                    .id(seekerCV.getId())
+                    .title(seekerCV.getTitle())
+                    .about(seekerCV.getAbout())
+                    .cvUrl(seekerCV.getCvUrl() != null ? seekerCV.getCvUrl() : seeker.getCvUrl())
+                    .fileName(seekerCV.getFileName())
+                    .fileSize(seekerCV.getFileSize())
+                    .details(seekerCV.getDetails())
+                    .build();
+        } else {
+            cv = seeker.getCvUrl() != null
+                    ? CVDto.builder().cvUrl(seeker.getCvUrl()).fileName("CV.pdf").build()
+                    : null;
+        }
 
         return FullProfileResponse.builder()
                 .basicInfo(basicInfo)
@@ -214,6 +329,9 @@ public class SeekerService {
             } catch (IOException ignored) {
             }
         }
+        // Skill rows go with the seeker through ON DELETE CASCADE, so announce their removal here
+        seekerSkillRepository.findBySeekerId(seeker.getId()).forEach(skill ->
+                eventPublisher.publishEvent(new SeekerSkillChangedEvent(skill.getSkill(), null)));
         seekerRepository.delete(seeker);
     }
 
@@ -232,6 +350,7 @@ public class SeekerService {
         String imageUrl = cloudinaryImageService.uploadImage(file, "seekers/profile");
         seeker.setProfileImageUrl(imageUrl);
         seekerRepository.save(seeker);
+        seekerRepository.bumpProfileVersion(userId);
         return mapToResponse(seeker, user);
     }
 
@@ -248,6 +367,7 @@ public class SeekerService {
             }
             seeker.setProfileImageUrl(null);
             seekerRepository.save(seeker);
+            seekerRepository.bumpProfileVersion(seeker.getId());
         }
         return mapToResponse(seeker, user);
     }
@@ -275,6 +395,7 @@ public class SeekerService {
         Address savedAddress = addressRepository.save(address);
         seeker.setAddressId(savedAddress.getId());
         seekerRepository.save(seeker);
+        seekerRepository.bumpProfileVersion(userId);
         return mapToResponse(seeker, user);
     }
 
@@ -288,6 +409,7 @@ public class SeekerService {
         if (seeker.getAddressId() != null) {
             seeker.setAddressId(null);
             seekerRepository.save(seeker);
+            seekerRepository.bumpProfileVersion(seeker.getId());
         }
         return mapToResponse(seeker, user);
     }
@@ -314,11 +436,14 @@ public class SeekerService {
     }
 
     private BasicInfoResponse mapToResponse(Seeker seeker, User user) {
-        AddressDto addressDto = seeker.getAddressId() != null
-                ? addressRepository.findById(seeker.getAddressId())
-                        .map(this::mapToAddressDto)
-                        .orElse(null)
+        Address address = seeker.getAddressId() != null
+                ? addressRepository.findById(seeker.getAddressId()).orElse(null)
                 : null;
+        return mapToResponse(seeker, user, address);
+    }
+
+    private BasicInfoResponse mapToResponse(Seeker seeker, User user, Address address) {
+        AddressDto addressDto = address != null ? mapToAddressDto(address) : null;
 
         return BasicInfoResponse.builder()
                 .id(seeker.getId())
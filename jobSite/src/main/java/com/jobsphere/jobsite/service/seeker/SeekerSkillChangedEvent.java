@@ -0,0 +1,10 @@
+package com.jobsphere.jobsite.service.seeker;
+
+/**
+ * A seeker's skill was added ({@code previousSkill} null), renamed, or removed
+ * ({@code skill} null).
+ */
+public record SeekerSkillChangedEvent(
+        String previousSkill,
+        String skill) {
+}
@@ -7,8 +7,10 @@ import com.jobsphere.jobsite.exception.ResourceNotFoundException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.seeker.SeekerSkill;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +24,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SeekerSkillService {
     private final SeekerSkillRepository seekerSkillRepository;
+    private final SeekerRepository seekerRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private User getAuthenticatedUser() {
         return userRepository.findByEmail(
@@ -71,6 +75,9 @@ public class SeekerSkillService {
                 .build();
 
         SeekerSkill savedSkill = seekerSkillRepository.save(seekerSkill);
+        eventPublisher.publishEvent(new SeekerSkillChangedEvent(null, savedSkill.getSkill()));
+        seekerRepository.bumpProfileVersion(seekerId);
+        eventPublisher.publishEvent(new SeekerProfileChangedEvent(seekerId));
 
         return SkillDto.builder()
                 .id(savedSkill.getId())
@@ -96,9 +103,13 @@ public class SeekerSkillService {
             throw new IllegalArgumentException("Skill already exists");
         }
 
+        String previousSkill = seekerSkill.getSkill();
         seekerSkill.setSkill(skillDto.getSkill());
         seekerSkill.setProficiency(skillDto.getProficiency());
         SeekerSkill savedSkill = seekerSkillRepository.save(seekerSkill);
+        eventPublisher.publishEvent(new SeekerSkillChangedEvent(previousSkill, savedSkill.getSkill()));
+        seekerRepository.bumpProfileVersion(seekerId);
+        eventPublisher.publishEvent(new SeekerProfileChangedEvent(seekerId));
 
         return SkillDto.builder()
                 .id(savedSkill.getId())
@@ -6,6 +6,7 @@ import com.jobsphere.jobsite.exception.AuthException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.seeker.SeekerSocialLink;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerSocialLinkRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SeekerSocialService {
     private final SeekerSocialLinkRepository seekerSocialLinkRepository;
+    private final SeekerRepository seekerRepository;
     private final UserRepository userRepository;
 
     private User getAuthenticatedUser() {
@@ -63,6 +65,7 @@ public class SeekerSocialService {
                 .build();
         
         seekerSocialLinkRepository.save(socialLink);
+        seekerRepository.bumpProfileVersion(seekerId);
         
         return SocialLinkDto.builder()
                 .platform(socialLink.getPlatform())
@@ -81,7 +84,10 @@ public class SeekerSocialService {
                 .filter(link -> link.getPlatform().equals(socialLinkDto.getPlatform()) 
                         && link.getUrl().equals(socialLinkDto.getUrl()))
                 .findFirst()
-                .ifPresent(seekerSocialLinkRepository::delete);
+                .ifPresent(link -> {
+                    seekerSocialLinkRepository.delete(link);
+                    seekerRepository.bumpProfileVersion(seekerId);
+                });
     }
 }
 
@@ -6,6 +6,7 @@ import com.jobsphere.jobsite.exception.AuthException;
 import com.jobsphere.jobsite.model.User;
 import com.jobsphere.jobsite.model.seeker.SeekerTag;
 import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerRepository;
 import com.jobsphere.jobsite.repository.seeker.SeekerTagRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SeekerTagService {
     private final SeekerTagRepository seekerTagRepository;
+    private final SeekerRepository seekerRepository;
     private final UserRepository userRepository;
 
     private User getAuthenticatedUser() {
@@ -66,6 +68,7 @@ public class SeekerTagService {
                 .build();
         
         seekerTagRepository.save(seekerTag);
+        seekerRepository.bumpProfileVersion(seekerId);
         
         return TagDto.builder()
                 .tag(seekerTag.getTag())
@@ -79,6 +82,7 @@ public class SeekerTagService {
         UUID seekerId = user.getId();
         
         seekerTagRepository.deleteBySeekerIdAndTag(seekerId, tagDto.getTag());
+        seekerRepository.bumpProfileVersion(seekerId);
     }
 }
 
@@ -0,0 +1,374 @@
+package com.jobsphere.jobsite.utils;
+
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Hierarchical navigable small world graph over unit-length float vectors, for
+ * approximate top-K by dot product. Re-inserting an id tombstones its old node:
+ * tombstoned nodes still route searches but are never returned, and are only
+ * dropped by building a new index. Reads may run concurrently; writes need the
+ * caller's exclusive lock.
+ */
+public final class HnswIndex {
+    private static final int MAGIC = 0x484e5357;
+    private static final int VERSION = 1;
+    // A node's level is geometric with ratio 1/m, so even m = 2 stays far below this
+    private static final int MAX_LAYERS = 64;
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelFactor;
+    private final VectorKernel kernel;
+    private final Random random = new Random(42);
+
+    private float[] vectors;
+    private UUID[] ids;
+    // links[node][layer] lists the node's neighbours on that layer
+    private int[][][] links;
+    private int size;
+    private final BitSet deleted = new BitSet();
+    private final Map<UUID, Integer> nodesById = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    // Per-thread visit marks; bumping the generation clears them without touching the array
+    private static final ThreadLocal<Visited> VISITED = ThreadLocal.withInitial(Visited::new);
+
+    private record Scored(int node, float similarity) {
+    }
+
+    private static final class Visited {
+        private int[] marks = new int[0];
+        private int generation;
+    }
+
+    public HnswIndex(int dimensions, int m, int efConstruction, VectorKernel kernel) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelFactor = 1 / Math.log(m);
+        this.kernel = kernel;
+        this.vectors = new float[16 * dimensions];
+        this.ids = new UUID[16];
+        this.links = new int[16][][];
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        return nodesById.size();
+    }
+
+    public int deletedCount() {
+        return deleted.cardinality();
+    }
+
+    public List<UUID> ids() {
+        return new ArrayList<>(nodesById.keySet());
+    }
+
+    /**
+     * Whether the id is present with exactly this vector, read from
+     * {@code data[offset..offset + dimensions)}.
+     */
+    public boolean matches(UUID id, float[] data, int offset) {
+        Integer node = nodesById.get(id);
+        return node != null && Arrays.equals(vectors, node * dimensions, (node + 1) * dimensions,
+                data, offset, offset + dimensions);
+    }
+
+    public void remove(UUID id) {
+        Integer node = nodesById.remove(id);
+        if (node != null) {
+            deleted.set(node);
+        }
+    }
+
+    public void insert(UUID id, float[] vector) {
+        remove(id);
+        int node = size++;
+        if (node == ids.length) {
+            ids = Arrays.copyOf(ids, node * 2);
+            links = Arrays.copyOf(links, node * 2);
+            vectors = Arrays.copyOf(vectors, node * 2 * dimensions);
+        }
+        System.arraycopy(vector, 0, vectors, node * dimensions, dimensions);
+        ids[node] = id;
+        nodesById.put(id, node);
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelFactor);
+        links[node] = new int[level + 1][];
+        Arrays.fill(links[node], new int[0]);
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedyClosest(vector, current, layer);
+        }
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            List<Scored> candidates = searchLayer(vector, current, efConstruction, layer);
+            int limit = layer == 0 ? maxM0 : m;
+            int[] selected = selectNeighbours(candidates, limit);
+            links[node][layer] = selected;
+            for (int neighbour : selected) {
+                connect(neighbour, node, layer, limit);
+            }
+            current = candidates.get(0).node();
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * Approximate top {@code k} live ids by dot product, best first. A larger
+     * {@code ef} explores more of the graph: better recall, slower queries.
+     */
+    public List<Match> search(float[] query, int k, int ef) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        int current = entryPoint;
+        for (int layer = maxLevel; layer > 0; layer--) {
+            current = greedyClosest(query, current, layer);
+        }
+        List<Match> matches = new ArrayList<>(k);
+        for (Scored scored : searchLayer(query, current, Math.max(ef, k), 0)) {
+            if (!deleted.get(scored.node())) {
+                matches.add(new Match(ids[scored.node()], scored.similarity()));
+                if (matches.size() == k)
+                    break;
+            }
+        }
+        return matches;
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(dimensions);
+        out.writeInt(m);
+        out.writeInt(efConstruction);
+        out.writeInt(size);
+        out.writeInt(entryPoint);
+        out.writeInt(maxLevel);
+        for (int node = 0; node < size; node++) {
+            out.writeLong(ids[node].getMostSignificantBits());
+            out.writeLong(ids[node].getLeastSignificantBits());
+            out.writeBoolean(deleted.get(node));
+            for (int i = node * dimensions; i < (node + 1) * dimensions; i++) {
+                out.writeFloat(vectors[i]);
+            }
+            out.writeInt(links[node].length);
+            for (int[] layer : links[node]) {
+                out.writeInt(layer.length);
+                for (int neighbour : layer) {
+                    out.writeInt(neighbour);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo}, or returns null when the file
+     * was written with a different format or parameters. A truncated or
+     * inconsistent file throws, so the caller can rebuild instead of searching
+     * a graph that links outside itself.
+     */
+    public static HnswIndex readFrom(DataInputStream in, int dimensions, int m, int efConstruction,
+            VectorKernel kernel) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != dimensions
+                || in.readInt() != m || in.readInt() != efConstruction)
+            return null;
+        HnswIndex index = new HnswIndex(dimensions, m, efConstruction, kernel);
+        int size = in.readInt();
+        index.entryPoint = in.readInt();
+        index.maxLevel = in.readInt();
+        if (size < 0 || index.entryPoint < -1 || index.entryPoint >= size || (size > 0) != (index.entryPoint >= 0))
+            throw new IOException("Corrupt HNSW graph: entry point " + index.entryPoint + " of " + size + " nodes");
+        index.size = size;
+        index.ids = new UUID[Math.max(size, 16)];
+        index.links = new int[index.ids.length][][];
+        index.vectors = new float[index.ids.length * dimensions];
+        for (int node = 0; node < size; node++) {
+            UUID id = new UUID(in.readLong(), in.readLong());
+            index.ids[node] = id;
+            if (in.readBoolean()) {
+                index.deleted.set(node);
+            } else {
+                index.nodesById.put(id, node);
+            }
+            for (int i = node * dimensions; i < (node + 1) * dimensions; i++) {
+                index.vectors[i] = in.readFloat();
+            }
+            int layerCount = in.readInt();
+            if (layerCount < 1 || layerCount > MAX_LAYERS)
+                throw new IOException("Corrupt HNSW graph: node " + node + " has " + layerCount + " layers");
+            int[][] layers = new int[layerCount][];
+            for (int layer = 0; layer < layers.length; layer++) {
+                int degree = in.readInt();
+                if (degree < 0 || degree > index.maxM0)
+                    throw new IOException("Corrupt HNSW graph: node " + node + " has " + degree + " links");
+                layers[layer] = new int[degree];
+                for (int i = 0; i < degree; i++) {
+                    layers[layer][i] = in.readInt();
+                }
+            }
+            index.links[node] = layers;
+        }
+        index.checkLinks();
+        return index;
+    }
+
+    // Every link must point at a node that exists on that layer, and the entry point must sit on the top layer
+    private void checkLinks() throws IOException {
+        if (entryPoint >= 0 && links[entryPoint].length != maxLevel + 1)
+            throw new IOException("Corrupt HNSW graph: entry point is not on the top layer " + maxLevel);
+        for (int node = 0; node < size; node++) {
+            for (int layer = 0; layer < links[node].length; layer++) {
+                for (int neighbour : links[node][layer]) {
+                    if (neighbour < 0 || neighbour >= size || links[neighbour].length <= layer)
+                        throw new IOException("Corrupt HNSW graph: node " + node + " links to " + neighbour
+                                + " on layer " + layer);
+                }
+            }
+        }
+    }
+
+    private float similarity(float[] query, int node) {
+        return kernel.dot(query, 0, vectors, node * dimensions, dimensions);
+    }
+
+    private float similarity(int a, int b) {
+        return kernel.dot(vectors, a * dimensions, vectors, b * dimensions, dimensions);
+    }
+
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbour : links[current][layer]) {
+                float similarity = similarity(query, neighbour);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbour;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Best-first expansion keeping the ef closest nodes seen; returned best first
+    private List<Scored> searchLayer(float[] query, int start, int ef, int layer) {
+        Visited visited = VISITED.get();
+        if (visited.marks.length < size) {
+            visited.marks = new int[Math.max(size, visited.marks.length * 2)];
+            visited.generation = 0;
+        }
+        int generation = ++visited.generation;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited.marks, 0);
+            visited.generation = generation = 1;
+        }
+
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(
+                Comparator.comparingDouble(Scored::similarity).reversed());
+        PriorityQueue<Scored> results = new PriorityQueue<>(Comparator.comparingDouble(Scored::similarity));
+        Scored first = new Scored(start, similarity(query, start));
+        visited.marks[start] = generation;
+        candidates.add(first);
+        results.add(first);
+        while (!candidates.isEmpty()) {
+            Scored closest = candidates.poll();
+            if (results.size() >= ef && closest.similarity() < results.peek().similarity())
+                break;
+            for (int neighbour : links[closest.node()][layer]) {
+                if (visited.marks[neighbour] == generation)
+                    continue;
+                visited.marks[neighbour] = generation;
+                float similarity = similarity(query, neighbour);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Scored scored = new Scored(neighbour, similarity);
+                    candidates.add(scored);
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        List<Scored> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingDouble(Scored::similarity).reversed());
+        return ordered;
+    }
+
+    // Skips candidates closer to an already chosen neighbour than to the query, so links spread
+    // out in different directions; leftover slots are filled with the nearest skipped ones
+    private int[] selectNeighbours(List<Scored> candidates, int limit) {
+        List<Scored> selected = new ArrayList<>(limit);
+        List<Scored> skipped = new ArrayList<>();
+        for (Scored candidate : candidates) {
+            if (selected.size() == limit)
+                break;
+            boolean diverse = true;
+            for (Scored chosen : selected) {
+                if (similarity(candidate.node(), chosen.node()) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : skipped).add(candidate);
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < limit; i++) {
+            selected.add(skipped.get(i));
+        }
+        int[] nodes = new int[selected.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = selected.get(i).node();
+        }
+        return nodes;
+    }
+
+    private void connect(int node, int neighbour, int layer, int limit) {
+        int[] current = links[node][layer];
+        int[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = neighbour;
+        if (grown.length <= limit) {
+            links[node][layer] = grown;
+            return;
+        }
+        List<Scored> candidates = new ArrayList<>(grown.length);
+        for (int other : grown) {
+            candidates.add(new Scored(other, similarity(node, other)));
+        }
+        candidates.sort(Comparator.comparingDouble(Scored::similarity).reversed());
+        links[node][layer] = selectNeighbours(candidates, limit);
+    }
+}
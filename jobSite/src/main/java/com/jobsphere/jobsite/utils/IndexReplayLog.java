@@ -0,0 +1,94 @@
+package com.jobsphere.jobsite.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coordinates full rebuilds of an in-memory index with its incremental updates.
+ * A rebuild reads its snapshot without holding the index's write lock, so every
+ * update applied meanwhile is also recorded and replayed onto the snapshot
+ * before it is installed; otherwise a change that committed after the snapshot
+ * was read would be lost until the next rebuild. Updates must therefore be
+ * idempotent: set a value rather than add to it. Before the first snapshot is
+ * installed there is nothing to apply updates to, so they are only recorded
+ * while it is being read and dropped before that, as the read will see them.
+ */
+public final class IndexReplayLog {
+    private final Lock writeLock;
+    private List<Runnable> pending;
+    private volatile boolean loaded;
+
+    public IndexReplayLog(ReadWriteLock lock) {
+        this.writeLock = lock.writeLock();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Runs an update against the live index under the write lock.
+     */
+    public void apply(Runnable update) {
+        writeLock.lock();
+        try {
+            if (loaded) {
+                update.run();
+            }
+            if (pending != null) {
+                pending.add(update);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reads a snapshot without the write lock, then installs it and replays the
+     * updates that arrived during the read, all under the write lock. Rebuilds
+     * run one at a time.
+     */
+    public synchronized <S> S rebuild(Supplier<S> read, Consumer<S> install) {
+        writeLock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        S snapshot;
+        try {
+            snapshot = read.get();
+        } catch (RuntimeException | Error e) {
+            writeLock.lock();
+            pending = null;
+            writeLock.unlock();
+            throw e;
+        }
+
+        writeLock.lock();
+        try {
+            install.accept(snapshot);
+            pending.forEach(Runnable::run);
+            loaded = true;
+        } finally {
+            pending = null;
+            writeLock.unlock();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds unless a snapshot is already installed, waiting for a rebuild in
+     * progress instead of starting a second one.
+     */
+    public synchronized <S> void ensureLoaded(Supplier<S> read, Consumer<S> install) {
+        if (!loaded) {
+            rebuild(read, install);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.jobsphere.jobsite.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive Aho-Corasick automaton. Finds every keyword occurring in a
+ * text in a single pass, independent of how many keywords were compiled.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class KeywordAutomaton {
+    private static final KeywordAutomaton EMPTY = new KeywordAutomaton(List.of());
+
+    private final String[] keywords;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+
+    private KeywordAutomaton(Collection<String> source) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String keyword : source) {
+            if (keyword != null && !keyword.isEmpty()) {
+                distinct.add(keyword.toLowerCase(Locale.ROOT));
+            }
+        }
+        this.keywords = distinct.toArray(String[]::new);
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(-1);
+        for (int k = 0; k < keywords.length; k++) {
+            int node = 0;
+            for (char c : keywords[k].toCharArray()) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(-1);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            terminal.set(node, k);
+        }
+
+        int size = trie.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        this.fail = new int[size];
+        this.output = new int[size];
+        this.outputLink = new int[size];
+        for (int n = 0; n < size; n++) {
+            Map<Character, Integer> edges = trie.get(n);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i++] = edge.getValue();
+            }
+            edgeChars[n] = chars;
+            edgeTargets[n] = targets;
+            output[n] = terminal.get(n);
+        }
+
+        // Breadth-first pass to wire failure links and the chain of shorter keywords ending at each node
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        outputLink[0] = -1;
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                int target = transition(f, c);
+                while (target < 0 && f != 0) {
+                    f = fail[f];
+                    target = transition(f, c);
+                }
+                fail[child] = Math.max(target, 0);
+                int fallback = fail[child];
+                outputLink[child] = output[fallback] >= 0 ? fallback : outputLink[fallback];
+                queue.add(child);
+            }
+        }
+    }
+
+    public static KeywordAutomaton empty() {
+        return EMPTY;
+    }
+
+    public static KeywordAutomaton of(Collection<String> keywords) {
+        return keywords.isEmpty() ? EMPTY : new KeywordAutomaton(keywords);
+    }
+
+    public boolean isEmpty() {
+        return keywords.length == 0;
+    }
+
+    public Set<String> findAll(CharSequence... texts) {
+        Set<String> found = new HashSet<>();
+        for (CharSequence text : texts) {
+            collect(text, found);
+        }
+        return found;
+    }
+
+    public void collect(CharSequence text, Set<String> found) {
+        if (text == null || keywords.length == 0) {
+            return;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = transition(node, c);
+            while (next < 0 && node != 0) {
+                node = fail[node];
+                next = transition(node, c);
+            }
+            node = Math.max(next, 0);
+            for (int n = output[node] >= 0 ? node : outputLink[node]; n >= 0; n = outputLink[n]) {
+                found.add(keywords[output[n]]);
+            }
+        }
+    }
+
+    private int transition(int node, char c) {
+        char[] chars = edgeChars[node];
+        int low = 0;
+        int high = chars.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (chars[mid] < c) {
+                low = mid + 1;
+            } else if (chars[mid] > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[node][mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobsphere.jobsite.utils;
+
+import java.util.Arrays;
+
+/**
+ * Growable set of ints kept sorted in a single array. Membership is a binary
+ * search and the overlap of two sets a linear merge, neither of which allocates.
+ */
+public final class SortedIntSet {
+    private int[] values;
+    private int size;
+
+    public SortedIntSet() {
+        this(4);
+    }
+
+    public SortedIntSet(int capacity) {
+        values = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean add(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0)
+            return false;
+        position = -position - 1;
+        grow();
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Bulk-load path for values arriving in ascending order; anything not above
+     * the current maximum falls back to {@link #add}.
+     */
+    public void append(int value) {
+        if (size > 0 && value <= values[size - 1]) {
+            add(value);
+            return;
+        }
+        grow();
+        values[size++] = value;
+    }
+
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0)
+            return false;
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int overlap(SortedIntSet other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int a = values[i];
+            int b = other.values[j];
+            if (a == b) {
+                count++;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void grow() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobsphere.jobsite.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class TextUtils {
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+            "or", "our", "the", "to", "we", "will", "with", "you", "your");
+
+    private TextUtils() {}
+
+    /**
+     * Case- and whitespace-insensitive lookup key for free text such as locations,
+     * titles and skills. Must stay in sync with the location_key() and skill_key()
+     * SQL functions, which compute the same key in queries.
+     */
+    public static String normalizeKey(String value) {
+        if (value == null)
+            return null;
+        String key = WHITESPACE.matcher(value).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Plain-text preview of possibly HTML-formatted text, cut at a word boundary.
+     */
+    public static String snippet(String text, int maxLength) {
+        if (text == null)
+            return null;
+        String plain = WHITESPACE.matcher(HTML_TAG.matcher(text).replaceAll(" ")).replaceAll(" ").trim();
+        if (plain.length() <= maxLength)
+            return plain;
+
+        int cut = plain.lastIndexOf(' ', maxLength - 3);
+        if (cut < maxLength / 2)
+            cut = maxLength - 3;
+        return plain.substring(0, cut).trim() + "...";
+    }
+
+    /**
+     * Lowercased word tokens of possibly HTML-formatted text, without stop words.
+     * Keeps '+' and '#' so skills like "C++" and "C#" survive.
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null)
+            return terms;
+        String plain = HTML_TAG.matcher(text).replaceAll(" ").toLowerCase(Locale.ROOT);
+        for (String token : NON_WORD.split(plain)) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobsphere.jobsite.utils;
+
+/**
+ * Dot product over slices of float arrays, the inner loop of similarity search.
+ * {@link #best()} picks the SIMD implementation when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} and the scalar one otherwise.
+ */
+public interface VectorKernel {
+
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    String name();
+
+    static VectorKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded by name so the scalar path never links against the incubator module
+                return (VectorKernel) Class.forName("com.jobsphere.jobsite.utils.SimdVectorKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError ignored) {
+            }
+        }
+        return new ScalarVectorKernel();
+    }
+}
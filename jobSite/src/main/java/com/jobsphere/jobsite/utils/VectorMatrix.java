@@ -0,0 +1,174 @@
+package com.jobsphere.jobsite.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Fixed-width float vectors keyed by UUID, stored row after row in one
+ * {@code float[]} so a similarity scan walks memory sequentially. Rows freed by
+ * {@link #remove} are reused by later puts. Not thread-safe.
+ */
+public final class VectorMatrix {
+    private final int dimensions;
+    private float[] data;
+    private UUID[] ids;
+    private int rows;
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    public record Match(UUID id, float score) {
+    }
+
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(UUID id, float[] data, int offset);
+    }
+
+    public VectorMatrix(int dimensions, int capacity) {
+        this.dimensions = dimensions;
+        int initial = Math.max(capacity, 16);
+        this.data = new float[initial * dimensions];
+        this.ids = new UUID[initial];
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        return rowsById.size();
+    }
+
+    /**
+     * Stores a vector under an id, replacing any previous one. The vector is
+     * copied, so the caller may reuse it.
+     */
+    public void put(UUID id, float[] vector) {
+        int row = row(id);
+        System.arraycopy(vector, 0, data, row * dimensions, dimensions);
+    }
+
+    /**
+     * Adds to one component of a row, starting a zero row for a new id, so
+     * vectors can be built in place without a temporary array per id.
+     */
+    public void add(UUID id, int index, float value) {
+        // The row is resolved first: growing the matrix replaces the data array
+        int row = row(id);
+        data[row * dimensions + index] += value;
+    }
+
+    public void normalizeAll() {
+        for (int row = 0; row < rows; row++) {
+            if (ids[row] != null) {
+                normalize(data, row * dimensions, dimensions);
+            }
+        }
+    }
+
+    public boolean remove(UUID id) {
+        Integer row = rowsById.remove(id);
+        if (row == null)
+            return false;
+        ids[row] = null;
+        // A zeroed row scores 0 against anything, so scans need not skip it
+        Arrays.fill(data, row * dimensions, (row + 1) * dimensions, 0f);
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+        }
+        freeRows[freeCount++] = row;
+        return true;
+    }
+
+    public boolean contains(UUID id) {
+        return rowsById.containsKey(id);
+    }
+
+    /**
+     * Copy of the stored vector, or null when the id is absent.
+     */
+    public float[] get(UUID id) {
+        Integer row = rowsById.get(id);
+        return row != null ? Arrays.copyOfRange(data, row * dimensions, (row + 1) * dimensions) : null;
+    }
+
+    /**
+     * Visits every stored row in place; the visitor must not keep the array.
+     */
+    public void forEach(RowVisitor visitor) {
+        for (int row = 0; row < rows; row++) {
+            if (ids[row] != null) {
+                visitor.visit(ids[row], data, row * dimensions);
+            }
+        }
+    }
+
+    /**
+     * The {@code k} rows with the highest positive dot product against the query,
+     * best first. With unit-length rows and query this is cosine similarity.
+     */
+    public List<Match> topK(float[] query, int k, VectorKernel kernel) {
+        if (k <= 0 || query.length != dimensions) {
+            return List.of();
+        }
+        // Min-heap on score; the worst kept row sits on top and is the bar to beat
+        PriorityQueue<Match> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Match::score));
+        float bar = 0f;
+        for (int row = 0; row < rows; row++) {
+            float score = kernel.dot(query, 0, data, row * dimensions, dimensions);
+            if (score <= bar || ids[row] == null)
+                continue;
+            heap.add(new Match(ids[row], score));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+            if (heap.size() == k) {
+                bar = heap.peek().score();
+            }
+        }
+        List<Match> matches = new ArrayList<>(heap);
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    /**
+     * Scales a vector to unit length in place; an all-zero vector is left as is.
+     */
+    public static void normalize(float[] vector) {
+        normalize(vector, 0, vector.length);
+    }
+
+    private static void normalize(float[] values, int offset, int length) {
+        double norm = 0;
+        for (int i = offset; i < offset + length; i++) {
+            norm += values[i] * values[i];
+        }
+        if (norm == 0)
+            return;
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = offset; i < offset + length; i++) {
+            values[i] *= scale;
+        }
+    }
+
+    private int row(UUID id) {
+        Integer row = rowsById.get(id);
+        if (row != null)
+            return row;
+        row = freeCount > 0 ? freeRows[--freeCount] : rows++;
+        if (row >= ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            data = Arrays.copyOf(data, ids.length * dimensions);
+        }
+        ids[row] = id;
+        rowsById.put(id, row);
+        return row;
+    }
+}
@@ -0,0 +1,20 @@
+-- Outbox for job alert fan-out, written in the same transaction as the job
+CREATE TABLE job_alert_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_id UUID NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    event_type VARCHAR(30) NOT NULL DEFAULT 'JOB_POSTED',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING'
+        CHECK (status IN ('PENDING', 'DONE', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    processed_at TIMESTAMPTZ
+);
+
+-- Only pending rows are polled, keep the index small
+CREATE INDEX idx_job_alert_outbox_pending ON job_alert_outbox(available_at, created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_job_alert_outbox_job_id ON job_alert_outbox(job_id);
+CREATE INDEX idx_job_alert_outbox_processed_at ON job_alert_outbox(processed_at)
+    WHERE status = 'DONE';
@@ -0,0 +1,43 @@
+-- Full-text search over title, company name, experience description and description
+ALTER TABLE jobs ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION jobs_search_vector_refresh() RETURNS trigger AS $$
+DECLARE
+    v_company_name TEXT;
+BEGIN
+    SELECT company_name INTO v_company_name FROM company_profiles WHERE id = NEW.company_profile_id;
+
+    NEW.search_vector :=
+        setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(v_company_name, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(NEW.experience_description, '')), 'C') ||
+        setweight(to_tsvector('english', coalesce(NEW.description, '')), 'D');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_jobs_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, experience_description, company_profile_id ON jobs
+    FOR EACH ROW EXECUTE FUNCTION jobs_search_vector_refresh();
+
+-- Renaming a company re-indexes its jobs through the trigger above
+CREATE OR REPLACE FUNCTION company_profiles_refresh_job_search() RETURNS trigger AS $$
+BEGIN
+    UPDATE jobs SET company_profile_id = company_profile_id WHERE company_profile_id = NEW.id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_company_profiles_job_search
+    AFTER UPDATE OF company_name ON company_profiles
+    FOR EACH ROW
+    WHEN (OLD.company_name IS DISTINCT FROM NEW.company_name)
+    EXECUTE FUNCTION company_profiles_refresh_job_search();
+
+UPDATE jobs SET company_profile_id = company_profile_id;
+
+-- btree_gin (V1) lets the equality filters share the GIN index with the text search;
+-- the partial predicate matches the public listing so closed jobs never bloat it
+CREATE INDEX idx_jobs_search_vector ON jobs
+    USING GIN (search_vector, category, job_type, workplace_type)
+    WHERE is_active = true AND status IN ('OPEN', 'HIRED');
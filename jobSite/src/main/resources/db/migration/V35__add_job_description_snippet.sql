@@ -0,0 +1,7 @@
+-- Plain-text preview used by list views so they never read the full description
+ALTER TABLE jobs ADD COLUMN description_snippet TEXT;
+
+UPDATE jobs
+SET description_snippet = left(
+        btrim(regexp_replace(regexp_replace(description, '<[^>]*>', ' ', 'g'), '\s+', ' ', 'g')),
+        200);
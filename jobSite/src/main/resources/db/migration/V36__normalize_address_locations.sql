@@ -0,0 +1,45 @@
+-- Canonical location keys: trimmed, whitespace collapsed, lower case, NULL when blank
+CREATE OR REPLACE FUNCTION location_key(value TEXT) RETURNS TEXT AS $$
+    SELECT NULLIF(lower(btrim(regexp_replace(value, '\s+', ' ', 'g'))), '')
+$$ LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE addresses
+    ADD COLUMN country_key TEXT GENERATED ALWAYS AS (location_key(country)) STORED,
+    ADD COLUMN region_key TEXT GENERATED ALWAYS AS (location_key(region)) STORED,
+    ADD COLUMN city_key TEXT GENERATED ALWAYS AS (location_key(city)) STORED;
+
+CREATE INDEX idx_addresses_city_key ON addresses(city_key);
+CREATE INDEX idx_addresses_region_key ON addresses(region_key);
+CREATE INDEX idx_addresses_location_keys ON addresses(country_key, region_key, city_key);
+
+-- Known country/region/city combinations, used to expand a region search to its cities.
+-- Region-only and country-only rows use '' for the missing levels.
+CREATE TABLE location_hierarchy (
+    country_key TEXT NOT NULL,
+    region_key TEXT NOT NULL DEFAULT '',
+    city_key TEXT NOT NULL DEFAULT '',
+    PRIMARY KEY (country_key, region_key, city_key)
+);
+
+CREATE INDEX idx_location_hierarchy_region_city ON location_hierarchy(region_key, city_key);
+
+CREATE OR REPLACE FUNCTION addresses_record_location() RETURNS trigger AS $$
+BEGIN
+    IF NEW.country_key IS NOT NULL THEN
+        INSERT INTO location_hierarchy (country_key, region_key, city_key)
+        VALUES (NEW.country_key, coalesce(NEW.region_key, ''), coalesce(NEW.city_key, ''))
+        ON CONFLICT DO NOTHING;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_addresses_location_hierarchy
+    AFTER INSERT OR UPDATE OF country, region, city ON addresses
+    FOR EACH ROW EXECUTE FUNCTION addresses_record_location();
+
+INSERT INTO location_hierarchy (country_key, region_key, city_key)
+SELECT DISTINCT country_key, coalesce(region_key, ''), coalesce(city_key, '')
+FROM addresses
+WHERE country_key IS NOT NULL
+ON CONFLICT DO NOTHING;
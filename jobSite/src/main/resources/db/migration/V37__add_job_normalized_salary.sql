@@ -0,0 +1,8 @@
+-- Annual salary in the base currency, filled in by SalaryNormalizer (existing rows are backfilled on startup)
+ALTER TABLE jobs ADD COLUMN salary_min_annual NUMERIC(15, 2);
+ALTER TABLE jobs ADD COLUMN salary_max_annual NUMERIC(15, 2);
+
+CREATE INDEX idx_jobs_listed_salary_max_annual ON jobs (salary_max_annual DESC NULLS LAST, created_at DESC, id DESC)
+    WHERE is_active = true AND status IN ('OPEN', 'HIRED');
+CREATE INDEX idx_jobs_listed_salary_min_annual ON jobs (salary_min_annual ASC NULLS LAST, created_at DESC, id DESC)
+    WHERE is_active = true AND status IN ('OPEN', 'HIRED');
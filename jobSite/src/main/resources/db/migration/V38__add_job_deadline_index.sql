@@ -0,0 +1,3 @@
+-- Lets the expiry worker find past-deadline jobs without scanning the active set
+CREATE INDEX idx_jobs_open_deadline ON jobs (deadline)
+    WHERE is_active = true AND status = 'OPEN' AND deadline IS NOT NULL;
@@ -0,0 +1,18 @@
+-- Alerts can batch their matches into an hourly or daily digest instead of one email per job
+ALTER TABLE job_alerts ADD COLUMN delivery_mode VARCHAR(10) NOT NULL DEFAULT 'INSTANT'
+    CHECK (delivery_mode IN ('INSTANT', 'HOURLY', 'DAILY'));
+
+COMMENT ON COLUMN job_alerts.delivery_mode IS 'INSTANT sends one email per match, HOURLY/DAILY collect matches into a digest';
+
+-- Matches waiting for the next digest; a job is queued at most once per seeker
+CREATE TABLE job_alert_digest_items (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    seeker_id UUID NOT NULL REFERENCES seekers(id) ON DELETE CASCADE,
+    job_id UUID NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    delivery_mode VARCHAR(10) NOT NULL CHECK (delivery_mode IN ('HOURLY', 'DAILY')),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    UNIQUE (seeker_id, job_id)
+);
+
+CREATE INDEX idx_job_alert_digest_items_mode ON job_alert_digest_items(delivery_mode, seeker_id, created_at);
+CREATE INDEX idx_job_alert_digest_items_job_id ON job_alert_digest_items(job_id);
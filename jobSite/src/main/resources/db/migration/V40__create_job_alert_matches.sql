@@ -0,0 +1,13 @@
+-- Precomputed alert matches behind the seeker's matched-jobs feed
+CREATE TABLE job_alert_matches (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    seeker_id UUID NOT NULL REFERENCES seekers(id) ON DELETE CASCADE,
+    job_id UUID NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    -- Copied from the job so the feed is ordered straight off the index
+    job_created_at TIMESTAMPTZ NOT NULL,
+    matched_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    UNIQUE (seeker_id, job_id)
+);
+
+CREATE INDEX idx_job_alert_matches_feed ON job_alert_matches(seeker_id, job_created_at DESC, job_id DESC);
+CREATE INDEX idx_job_alert_matches_job_id ON job_alert_matches(job_id);
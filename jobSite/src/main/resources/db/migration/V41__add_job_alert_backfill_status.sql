@@ -0,0 +1,12 @@
+-- Progress of the scan that matches a new alert against the jobs already open
+ALTER TABLE job_alerts ADD COLUMN backfill_status VARCHAR(10)
+    CHECK (backfill_status IN ('PENDING', 'DONE', 'FAILED'));
+-- Alerts saved before this column existed have nothing left to backfill
+UPDATE job_alerts SET backfill_status = 'DONE';
+-- Same default as JobAlert.backfillStatus, so a new alert starts out pending however it is inserted
+ALTER TABLE job_alerts ALTER COLUMN backfill_status SET DEFAULT 'PENDING';
+ALTER TABLE job_alerts ALTER COLUMN backfill_status SET NOT NULL;
+ALTER TABLE job_alerts ADD COLUMN backfill_match_count INTEGER;
+ALTER TABLE job_alerts ADD COLUMN backfill_completed_at TIMESTAMPTZ;
+
+COMMENT ON COLUMN job_alerts.backfill_match_count IS 'Open jobs matched by the alert when its backfill last completed';
@@ -0,0 +1,12 @@
+-- Precomputed top candidates behind the employer's recommended-candidates tab
+CREATE TABLE job_candidate_matches (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_id UUID NOT NULL REFERENCES jobs(id) ON DELETE CASCADE,
+    seeker_id UUID NOT NULL REFERENCES seekers(id) ON DELETE CASCADE,
+    score INTEGER NOT NULL,
+    computed_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    UNIQUE (job_id, seeker_id)
+);
+
+CREATE INDEX idx_job_candidate_matches_ranking ON job_candidate_matches(job_id, score DESC, seeker_id);
+CREATE INDEX idx_job_candidate_matches_seeker_id ON job_candidate_matches(seeker_id);
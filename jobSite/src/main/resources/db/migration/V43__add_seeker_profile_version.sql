@@ -0,0 +1,6 @@
+-- Bumped on every profile change and served as the profile ETag. Values come from one
+-- sequence, so a deleted and recreated profile never repeats a version a client has seen.
+CREATE SEQUENCE seeker_profile_version_seq;
+
+ALTER TABLE seekers
+    ADD COLUMN profile_version BIGINT NOT NULL DEFAULT nextval('seeker_profile_version_seq');
@@ -0,0 +1,8 @@
+-- Canonical skill keys: trimmed, whitespace collapsed, lower case, NULL when blank (TextUtils.normalizeKey).
+-- Separate from location_key() so a change to how locations are keyed cannot change skill matching
+CREATE OR REPLACE FUNCTION skill_key(value TEXT) RETURNS TEXT AS $$
+    SELECT NULLIF(lower(btrim(regexp_replace(value, '\s+', ' ', 'g'))), '')
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Lets the suggest index count the seekers holding a skill by its normalized key
+CREATE INDEX idx_seeker_skills_skill_key ON seeker_skills (skill_key(skill));
@@ -0,0 +1,20 @@
+-- Job alert and digest emails, written in the same transaction as their notifications and
+-- only marked SENT once the mail server accepted them, so a crash or SMTP error retries them
+CREATE TABLE job_alert_emails (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    to_email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    html_content TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING'
+        CHECK (status IN ('PENDING', 'SENT', 'FAILED')),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    sent_at TIMESTAMPTZ
+);
+
+CREATE INDEX idx_job_alert_emails_pending ON job_alert_emails(available_at, created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_job_alert_emails_sent_at ON job_alert_emails(sent_at)
+    WHERE status = 'SENT';
@@ -0,0 +1,9 @@
+-- When a job's candidates were last computed, so the startup backfill only visits jobs never scored
+-- rather than every listed job that simply has no matching seekers
+ALTER TABLE jobs ADD COLUMN candidates_scored_at TIMESTAMPTZ;
+
+UPDATE jobs j SET candidates_scored_at = now()
+WHERE EXISTS (SELECT 1 FROM job_candidate_matches m WHERE m.job_id = j.id);
+
+CREATE INDEX idx_jobs_candidates_unscored ON jobs(id)
+    WHERE candidates_scored_at IS NULL AND is_active = true AND status IN ('OPEN', 'HIRED');
@@ -0,0 +1,3 @@
+-- Fingerprint of the exchange-rate and pay-period table a job's annual salary was computed with.
+-- Rows from before this column, or from an older table, are re-normalized in the background.
+ALTER TABLE jobs ADD COLUMN salary_rates_version VARCHAR(32);
@@ -0,0 +1,18 @@
+-- V35 cut the backfilled snippets at a fixed 200 characters, while new and edited jobs get
+-- TextUtils.snippet: cut at the last space at or before 197 (unless that falls in the first half)
+-- with "..." appended. Existing rows are re-derived with the same rules so list views agree.
+UPDATE jobs j
+SET description_snippet = CASE
+        WHEN length(p.plain) <= 200 THEN p.plain
+        ELSE rtrim(left(p.plain, CASE WHEN p.last_space - 1 < 100 THEN 197 ELSE p.last_space - 1 END)) || '...'
+    END
+FROM (
+    -- 1-based position of the last space within the first 198 characters, 0 when there is none
+    SELECT id, plain,
+           CASE WHEN strpos(reverse(left(plain, 198)), ' ') > 0
+                THEN 199 - strpos(reverse(left(plain, 198)), ' ')
+                ELSE 0 END AS last_space
+    FROM (SELECT id, btrim(regexp_replace(regexp_replace(description, '<[^>]*>', ' ', 'g'), '\s+', ' ', 'g')) AS plain
+          FROM jobs) stripped
+) p
+WHERE p.id = j.id;
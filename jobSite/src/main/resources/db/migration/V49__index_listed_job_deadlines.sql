@@ -0,0 +1,5 @@
+-- HIRED jobs stay listed until their deadline like OPEN ones, so the expiry worker now closes both
+DROP INDEX IF EXISTS idx_jobs_open_deadline;
+
+CREATE INDEX idx_jobs_listed_deadline ON jobs (deadline)
+    WHERE is_active = true AND status IN ('OPEN', 'HIRED') AND deadline IS NOT NULL;
@@ -0,0 +1,64 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryTaxonomyTests {
+    private final CategoryTaxonomy taxonomy = new CategoryTaxonomy(new ObjectMapper());
+
+    @BeforeEach
+    void load() throws IOException {
+        taxonomy.load();
+    }
+
+    @Test
+    void relatesSectorsToTheirSubSectors() {
+        assertTrue(taxonomy.related("Technology", "Software Development"));
+        assertTrue(taxonomy.related("IT", "software development"));
+        assertFalse(taxonomy.related("Software Development", "Nursing"));
+    }
+
+    @Test
+    void resolvesFreeTextToTheNameItContains() {
+        assertEquals(taxonomy.categoryId("Software Development"), taxonomy.categoryId("Senior Software Development"));
+        assertEquals(taxonomy.categoryId("Nursing"), taxonomy.categoryId("Nursingcare"));
+        assertTrue(taxonomy.related("Technology", "Senior Software Development"));
+    }
+
+    @Test
+    void keepsUnknownFreeTextToItself() {
+        int basketry = taxonomy.categoryId("Underwater Basketry");
+
+        assertNotEquals(CategoryTaxonomy.NONE, basketry);
+        assertEquals(basketry, taxonomy.categoryId(" underwater   basketry "));
+        assertTrue(taxonomy.related("Underwater Basketry", "underwater basketry"));
+        assertFalse(taxonomy.related("Underwater Basketry", "Technology"));
+        assertFalse(taxonomy.related("Underwater Basketry", "Zoo Keeping"));
+        assertEquals(CategoryTaxonomy.NONE, taxonomy.categoryId("  "));
+    }
+
+    @Test
+    void relatesFreeTextThatContainsOtherFreeText() {
+        assertTrue(taxonomy.related("Underwater Basketry", "Advanced Underwater Basketry"));
+        assertFalse(taxonomy.related("Underwater Basketry", "Basket Weaving"));
+    }
+
+    @Test
+    void keepsFreeTextWithEqualHashesApart() {
+        // "aā" and "bâ" share a String hash code
+        String first = "Underwater Basketry aā";
+        String second = "Underwater Basketry bâ";
+        assertEquals(first.toLowerCase().hashCode(), second.toLowerCase().hashCode());
+
+        assertNotEquals(taxonomy.categoryId(first), taxonomy.categoryId(second));
+        assertFalse(taxonomy.related(first, second));
+    }
+}
@@ -0,0 +1,114 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.model.seeker.JobAlert;
+import com.jobsphere.jobsite.model.seeker.Seeker;
+import com.jobsphere.jobsite.repository.seeker.JobAlertRepository;
+import com.jobsphere.jobsite.service.seeker.JobAlertChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobAlertIndexTests {
+    private static final UUID SEEKER = new UUID(1L, 1L);
+
+    private final JobAlertRepository jobAlertRepository = mock(JobAlertRepository.class);
+    private final CategoryTaxonomy categoryTaxonomy = new CategoryTaxonomy(new ObjectMapper());
+    private final JobAlertIndex index = new JobAlertIndex(jobAlertRepository, TestTransactions.template(),
+            categoryTaxonomy);
+
+    private final List<JobAlert> alerts = List.of(
+            alert(1, "Java, Spring", null, null, null),
+            alert(2, "General", "Technology", null, null),
+            alert(3, "nurse", null, "FULL_TIME", "Adama"),
+            alert(4, "", "Finance", null, null));
+
+    private final List<JobMatchView> jobs = List.of(
+            job(1, "Senior Java Developer", "Spring Boot services", "Software Development", "FULL_TIME", "Addis Ababa"),
+            job(2, "Registered Nurse", "Ward duties", "Health", "FULL_TIME", "Adama"),
+            job(3, "Nurse Assistant", "Night shifts", "Health", "PART_TIME", "Adama"),
+            job(4, "Accountant", "General ledger", "Finance", "FULL_TIME", "Addis Ababa"),
+            job(5, "Data Engineer", "General tooling", "Data Science", "CONTRACT", null));
+
+    @BeforeEach
+    void load() throws IOException {
+        categoryTaxonomy.load();
+        when(jobAlertRepository.findByIsActiveTrue()).thenReturn(alerts);
+        index.rebuild();
+    }
+
+    @Test
+    void matchesEveryDimension() {
+        assertEquals(Set.of(1), matchingAlerts(jobs.get(0)));
+        assertEquals(Set.of(3), matchingAlerts(jobs.get(1)));
+        assertEquals(Set.of(), matchingAlerts(jobs.get(2)));
+        assertEquals(Set.of(4), matchingAlerts(jobs.get(3)));
+        assertEquals(Set.of(2), matchingAlerts(jobs.get(4)));
+    }
+
+    @Test
+    void matchesAlertsAddedAfterTheAutomataWereBuilt() {
+        assertEquals(Set.of(), matchingAlerts(jobs.get(2)));
+
+        index.onAlertChanged(new JobAlertChangedEvent(alert(6, "Night shifts", null, null, null), SEEKER, false, true));
+
+        assertEquals(Set.of(6), matchingAlerts(jobs.get(2)));
+    }
+
+    @Test
+    void reverseLookupAgreesWithForwardMatching() {
+        Map<UUID, List<UUID>> byAlert = index.findMatchingJobs(alerts, jobs);
+
+        for (JobMatchView job : jobs) {
+            Set<UUID> forward = index.findMatchingAlerts(job).stream()
+                    .map(JobAlertIndex.IndexedAlert::alertId)
+                    .collect(Collectors.toSet());
+            Set<UUID> reverse = byAlert.entrySet().stream()
+                    .filter(entry -> entry.getValue().contains(job.id()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            assertEquals(forward, reverse, job.title());
+        }
+    }
+
+    @Test
+    void reverseLookupSkipsInactiveAlerts() {
+        JobAlert paused = alert(5, "Java", null, null, null);
+        paused.setIsActive(false);
+
+        assertEquals(Map.of(), index.findMatchingJobs(List.of(paused), jobs));
+    }
+
+    private Set<Integer> matchingAlerts(JobMatchView job) {
+        return index.findMatchingAlerts(job).stream()
+                .map(alert -> (int) alert.alertId().getLeastSignificantBits())
+                .collect(Collectors.toSet());
+    }
+
+    private static JobAlert alert(int n, String keywords, String category, String jobType, String location) {
+        return JobAlert.builder()
+                .id(new UUID(0L, n))
+                .seeker(Seeker.builder().id(SEEKER).build())
+                .keywords(keywords)
+                .category(category)
+                .jobType(jobType)
+                .preferredLocation(location)
+                .build();
+    }
+
+    private static JobMatchView job(int n, String title, String description, String category, String jobType,
+            String city) {
+        return new JobMatchView(new UUID(2L, n), title, description, category, jobType, city, null);
+    }
+}
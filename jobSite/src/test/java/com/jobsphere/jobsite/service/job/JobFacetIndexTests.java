@@ -0,0 +1,106 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobFacetsResponse;
+import com.jobsphere.jobsite.dto.job.ListedJobView;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobFacetIndexTests {
+    private static final List<ListedJobView> JOBS = List.of(
+            job(1, "IT", "FULL_TIME", "REMOTE", "Addis Ababa", "Addis Ababa"),
+            job(2, "IT", "PART_TIME", "ONSITE", "Adama", "Oromia"),
+            job(3, "Finance", "FULL_TIME", "ONSITE", " addis  ababa ", "Addis Ababa"));
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobFacetIndex index = new JobFacetIndex(jobRepository, TestTransactions.template());
+
+    @BeforeEach
+    void load() {
+        when(jobRepository.findListedJobSnapshots()).thenReturn(JOBS);
+        index.rebuild();
+    }
+
+    @Test
+    void countsEveryFacetValue() {
+        JobFacetsResponse facets = index.facets(null, null, null, null);
+
+        assertEquals(3, facets.total());
+        assertEquals(Map.of("IT", 2, "Finance", 1), facets.categories());
+        assertEquals(Map.of("FULL_TIME", 2, "PART_TIME", 1), facets.jobTypes());
+        assertEquals(Map.of("Addis Ababa", 2, "Adama", 1), facets.cities());
+        assertEquals(Map.of("Addis Ababa", 2, "Oromia", 1), facets.regions());
+    }
+
+    @Test
+    void facetIgnoresItsOwnFilterWhenCounting() {
+        JobFacetsResponse facets = index.facets("IT", "FULL_TIME", null, null);
+
+        assertEquals(1, facets.total());
+        assertEquals(Map.of("IT", 1, "Finance", 1), facets.categories());
+        assertEquals(Map.of("FULL_TIME", 1, "PART_TIME", 1), facets.jobTypes());
+        assertEquals(Map.of("REMOTE", 1), facets.workplaceTypes());
+    }
+
+    @Test
+    void locationMatchesCityOrRegionKey() {
+        assertEquals(1, index.facets(null, null, null, "oromia").total());
+        assertEquals(2, index.facets(null, null, null, "ADDIS   ABABA").total());
+        assertEquals(0, index.facets("Medicine", null, null, null).total());
+    }
+
+    @Test
+    void followsJobChanges() {
+        index.onJobChanged(new JobChangedEvent(id(2), "Job 2", null, "Acme", "IT", "PART_TIME", "ONSITE",
+                "Adama", "Oromia", Instant.EPOCH, false));
+        index.onJobChanged(JobChangedEvent.listed(job(4, "Health", "CONTRACT", "HYBRID", "Hawassa", "Sidama")));
+
+        JobFacetsResponse facets = index.facets(null, null, null, null);
+        assertEquals(3, facets.total());
+        assertEquals(Map.of("IT", 1, "Finance", 1, "Health", 1), facets.categories());
+        assertEquals(Map.of("Addis Ababa", 2, "Hawassa", 1), facets.cities());
+    }
+
+    @Test
+    void listsCategoriesAsStoredOnTheJobs() {
+        index.onJobChanged(JobChangedEvent.listed(job(4, " IT ", "CONTRACT", "HYBRID", "Hawassa", "Sidama")));
+        index.onJobChanged(new JobChangedEvent(id(3), "Job 3", null, "Acme", "Finance", "FULL_TIME", "ONSITE",
+                "Addis Ababa", "Addis Ababa", Instant.EPOCH, false));
+
+        assertEquals(Set.of("IT", " IT "), index.listedCategories());
+        assertEquals(Map.of("IT", 3), index.facets(null, null, null, null).categories());
+    }
+
+    @Test
+    void keepsChangesMadeWhileRebuilding() {
+        when(jobRepository.findListedJobSnapshots()).thenAnswer(invocation -> {
+            index.onJobChanged(JobChangedEvent.listed(job(4, "Health", "CONTRACT", "HYBRID", "Hawassa", "Sidama")));
+            return JOBS;
+        });
+
+        index.rebuild();
+
+        assertEquals(4, index.facets(null, null, null, null).total());
+        assertEquals(1, index.facets("Health", null, null, null).total());
+    }
+
+    private static ListedJobView job(int n, String category, String jobType, String workplaceType, String city,
+            String region) {
+        return new ListedJobView(id(n), "Job " + n, null, "Acme", category, jobType, workplaceType, city, region,
+                Instant.EPOCH);
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}
@@ -0,0 +1,151 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobSuggestionResponse;
+import com.jobsphere.jobsite.dto.job.ListedJobView;
+import com.jobsphere.jobsite.repository.employer.CompanyProfileRepository;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository.SkillFrequency;
+import com.jobsphere.jobsite.service.seeker.SeekerSkillChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobSuggestIndexTests {
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final CompanyProfileRepository companyProfileRepository = mock(CompanyProfileRepository.class);
+    private final SeekerSkillRepository seekerSkillRepository = mock(SeekerSkillRepository.class);
+    private final JobSuggestIndex index = new JobSuggestIndex(jobRepository, companyProfileRepository,
+            seekerSkillRepository, TestTransactions.template());
+
+    @BeforeEach
+    void load() {
+        ReflectionTestUtils.setField(index, "minSkillSeekers", 2);
+        when(jobRepository.findListedJobSnapshots()).thenReturn(List.of(
+                job(1, "Software Engineer", "Acme"),
+                job(2, "Software Engineer", "Acme"),
+                job(3, "Data Engineer", "Globex")));
+        when(companyProfileRepository.findAllCompanyNames()).thenReturn(List.of("Acme", "Globex", "Initech"));
+        when(seekerSkillRepository.countSeekersBySkill()).thenReturn(List.of(
+                skill("Java", 3), skill("Kotlin", 1)));
+        index.rebuild();
+    }
+
+    @Test
+    void suggestsHeaviestTermsForPrefix() {
+        assertEquals(List.of(
+                        new JobSuggestionResponse("Software Engineer", "TITLE", 2),
+                        new JobSuggestionResponse("Data Engineer", "TITLE", 1)),
+                index.suggest("  ENG", 10));
+        assertEquals(List.of(new JobSuggestionResponse("Acme", "COMPANY", 3)), index.suggest("ac", 10));
+    }
+
+    @Test
+    void respectsLimit() {
+        assertEquals(1, index.suggest("engineer", 1).size());
+        assertTrue(index.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    void hidesSkillsHeldByTooFewSeekers() {
+        assertEquals(List.of(new JobSuggestionResponse("Java", "SKILL", 3)), index.suggest("j", 10));
+        assertTrue(index.suggest("kot", 10).isEmpty());
+    }
+
+    @Test
+    void skillChangesTakeCountsFromRepository() {
+        when(seekerSkillRepository.countSeekersBySkillKey("kotlin")).thenReturn(2L);
+        when(seekerSkillRepository.countSeekersBySkillKey("java")).thenReturn(2L);
+
+        index.onSkillChanged(new SeekerSkillChangedEvent("Java", "kotlin"));
+        // Applying the same change twice must not count it twice
+        index.onSkillChanged(new SeekerSkillChangedEvent("Java", "kotlin"));
+
+        assertEquals(List.of(new JobSuggestionResponse("Kotlin", "SKILL", 2)), index.suggest("kot", 10));
+        assertEquals(List.of(new JobSuggestionResponse("Java", "SKILL", 2)), index.suggest("java", 10));
+    }
+
+    @Test
+    void removedSkillsAreDropped() {
+        when(seekerSkillRepository.countSeekersBySkillKey("java")).thenReturn(0L);
+
+        index.onSkillChanged(new SeekerSkillChangedEvent("Java", null));
+
+        assertTrue(index.suggest("java", 10).isEmpty());
+    }
+
+    @Test
+    void unlistedJobsLeaveNoTrieNodesBehind() {
+        when(jobRepository.findListedJobSnapshots()).thenReturn(List.of(job(1, "Zookeeper", "Acme")));
+        when(companyProfileRepository.findAllCompanyNames()).thenReturn(List.of());
+        when(seekerSkillRepository.countSeekersBySkill()).thenReturn(List.of());
+        index.rebuild();
+
+        index.onJobChanged(new JobChangedEvent(id(1), "Zookeeper", null, "Acme", "IT", "FULL_TIME", "ONSITE",
+                null, null, Instant.EPOCH, false));
+
+        assertTrue(index.suggest("zoo", 10).isEmpty());
+        Object root = ReflectionTestUtils.getField(index, "root");
+        assertNull(ReflectionTestUtils.getField(root, "children"));
+    }
+
+    @Test
+    void removingOneTermKeepsItsNeighbours() {
+        index.onJobChanged(new JobChangedEvent(id(3), "Data Engineer", null, "Globex", "IT", "FULL_TIME", "ONSITE",
+                null, null, Instant.EPOCH, false));
+
+        assertEquals(List.of(new JobSuggestionResponse("Software Engineer", "TITLE", 2)), index.suggest("eng", 10));
+        assertEquals(List.of(new JobSuggestionResponse("Globex", "COMPANY", 1)), index.suggest("glo", 10));
+        assertTrue(index.suggest("data", 10).isEmpty());
+    }
+
+    @Test
+    void keepsChangesMadeWhileRebuilding() {
+        when(seekerSkillRepository.countSeekersBySkillKey("go")).thenReturn(4L);
+        when(jobRepository.findListedJobSnapshots()).thenAnswer(invocation -> {
+            index.onJobChanged(JobChangedEvent.listed(job(4, "Golang Developer", "Initech")));
+            index.onSkillChanged(new SeekerSkillChangedEvent(null, "Go"));
+            return List.of(job(1, "Software Engineer", "Acme"));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(
+                        new JobSuggestionResponse("Go", "SKILL", 4),
+                        new JobSuggestionResponse("Golang Developer", "TITLE", 1)),
+                index.suggest("go", 10));
+    }
+
+    private static ListedJobView job(int n, String title, String company) {
+        return new ListedJobView(id(n), title, null, company, "IT", "FULL_TIME", "ONSITE", null, null,
+                Instant.EPOCH);
+    }
+
+    private static SkillFrequency skill(String name, long count) {
+        return new SkillFrequency() {
+            @Override
+            public String getSkill() {
+                return name;
+            }
+
+            @Override
+            public long getSeekerCount() {
+                return count;
+            }
+        };
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}
@@ -0,0 +1,93 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.jobsphere.jobsite.dto.job.JobMatchView;
+import com.jobsphere.jobsite.repository.job.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobTermIndexTests {
+    private static final List<JobMatchView> JOBS = List.of(
+            job(1, "Java Developer", "IT", "Spring services"),
+            job(2, "Accountant", "Finance", "Java reporting tools"),
+            job(3, "Nurse", "Health", "Ward care"));
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobTermIndex index = new JobTermIndex(jobRepository, TestTransactions.template());
+
+    @BeforeEach
+    void load() {
+        when(jobRepository.streamListedJobMatchViews()).thenAnswer(invocation -> JOBS.stream());
+    }
+
+    @Test
+    void ranksTitleMatchesFirst() {
+        index.rebuild();
+
+        JobTermIndex.TopJobs top = index.topJobs(Map.of("java", 1.0f), 10);
+
+        assertEquals(2, top.totalMatches());
+        assertEquals(List.of(id(1), id(2)), top.jobs().stream().map(JobTermIndex.ScoredJob::jobId).toList());
+    }
+
+    @Test
+    void ranksNothingBeforeTheFirstLoad() {
+        assertTrue(index.topJobs(Map.of("java", 1.0f), 10).jobs().isEmpty());
+    }
+
+    @Test
+    void followsJobChanges() {
+        index.rebuild();
+        when(jobRepository.findListedJobMatchViewById(id(4)))
+                .thenReturn(Optional.of(job(4, "Java Architect", "IT", "")));
+
+        index.onJobChanged(event(1, false));
+        index.onJobChanged(event(4, true));
+
+        assertEquals(List.of(id(4), id(2)), index.topJobs(Map.of("java", 1.0f), 10).jobs().stream()
+                .map(JobTermIndex.ScoredJob::jobId)
+                .toList());
+    }
+
+    @Test
+    void keepsChangesMadeWhileRebuilding() {
+        index.rebuild();
+        when(jobRepository.findListedJobMatchViewById(id(4)))
+                .thenReturn(Optional.of(job(4, "Java Architect", "IT", "")));
+        when(jobRepository.streamListedJobMatchViews()).thenAnswer(invocation -> {
+            index.onJobChanged(event(4, true));
+            index.onJobChanged(event(2, false));
+            return Stream.of(JOBS.get(0), JOBS.get(1), JOBS.get(2));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(id(4), id(1)), index.topJobs(Map.of("java", 1.0f), 10).jobs().stream()
+                .map(JobTermIndex.ScoredJob::jobId)
+                .toList());
+    }
+
+    private static JobChangedEvent event(int n, boolean listed) {
+        return new JobChangedEvent(id(n), "Job " + n, null, "Acme", "IT", "FULL_TIME", "ONSITE", null, null,
+                Instant.EPOCH, listed);
+    }
+
+    private static JobMatchView job(int n, String title, String category, String description) {
+        return new JobMatchView(id(n), title, description, category, "FULL_TIME", null, null);
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobsphere.jobsite.service.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobsphere.jobsite.model.job.Job;
+import com.jobsphere.jobsite.model.seeker.SeekerSkill;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSectorRepository.SeekerSectorView;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository;
+import com.jobsphere.jobsite.repository.seeker.SeekerSkillRepository.SeekerSkillView;
+import com.jobsphere.jobsite.service.job.SeekerTermIndex.ScoredCandidate;
+import com.jobsphere.jobsite.service.seeker.SeekerProfileChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeekerTermIndexTests {
+    private static final Job JOB = Job.builder()
+            .title("Java Developer")
+            .description("Spring services")
+            .category("Technology")
+            .build();
+
+    private final SeekerSkillRepository seekerSkillRepository = mock(SeekerSkillRepository.class);
+    private final SeekerSectorRepository seekerSectorRepository = mock(SeekerSectorRepository.class);
+    private SeekerTermIndex index;
+
+    @BeforeEach
+    void load() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SkillDictionary skillDictionary = new SkillDictionary(objectMapper);
+        skillDictionary.load();
+        CategoryTaxonomy categoryTaxonomy = new CategoryTaxonomy(objectMapper);
+        categoryTaxonomy.load();
+        index = new SeekerTermIndex(seekerSkillRepository, seekerSectorRepository, skillDictionary,
+                categoryTaxonomy, TestTransactions.template());
+
+        when(seekerSkillRepository.streamSeekerSkills()).thenAnswer(invocation -> Stream.of(
+                skill(1, "Java"), skill(1, "Spring"), skill(2, "Java"), skill(4, "Python")));
+        when(seekerSectorRepository.streamSeekerSectors()).thenAnswer(invocation -> Stream.of(
+                sector(2, "Software Development"), sector(3, "Technology")));
+    }
+
+    @Test
+    void ranksSkillHitsThenFillsWithSectorMatches() {
+        index.rebuild();
+
+        assertEquals(List.of(new ScoredCandidate(id(1), 4), new ScoredCandidate(id(2), 3),
+                        new ScoredCandidate(id(3), 1)),
+                index.findCandidates(JOB, 10));
+        assertEquals(List.of(new ScoredCandidate(id(1), 4)), index.findCandidates(JOB, 1));
+        assertEquals(3, index.score(index.jobTerms(JOB), id(2)));
+    }
+
+    @Test
+    void findsNothingBeforeTheFirstLoad() {
+        assertTrue(index.findCandidates(JOB, 10).isEmpty());
+        assertEquals(0, index.score(index.jobTerms(JOB), id(1)));
+    }
+
+    @Test
+    void keepsChangesMadeWhileRebuilding() {
+        index.rebuild();
+        when(seekerSkillRepository.findBySeekerId(id(4))).thenReturn(List.of(
+                SeekerSkill.builder().seekerId(id(4)).skill("Java").build(),
+                SeekerSkill.builder().seekerId(id(4)).skill("Spring").build()));
+        when(seekerSkillRepository.streamSeekerSkills()).thenAnswer(invocation -> {
+            index.onProfileChanged(new SeekerProfileChangedEvent(id(4)));
+            return Stream.of(skill(1, "Java"), skill(1, "Spring"), skill(2, "Java"), skill(4, "Python"));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(new ScoredCandidate(id(1), 4), new ScoredCandidate(id(4), 4)),
+                index.findCandidates(JOB, 2));
+    }
+
+    private static SeekerSkillView skill(int seeker, String skill) {
+        return new SeekerSkillView() {
+            @Override
+            public UUID getSeekerId() {
+                return id(seeker);
+            }
+
+            @Override
+            public String getSkill() {
+                return skill;
+            }
+
+            @Override
+            public String getProficiency() {
+                return null;
+            }
+        };
+    }
+
+    private static SeekerSectorView sector(int seeker, String sector) {
+        return new SeekerSectorView() {
+            @Override
+            public UUID getSeekerId() {
+                return id(seeker);
+            }
+
+            @Override
+            public String getSector() {
+                return sector;
+            }
+        };
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobsphere.jobsite.service.notification;
+
+import com.jobsphere.jobsite.constant.JobConstants;
+import com.jobsphere.jobsite.model.User;
+import com.jobsphere.jobsite.model.notification.JobAlertEmail;
+import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.notification.JobAlertEmailRepository;
+import com.jobsphere.jobsite.repository.notification.NotificationRepository;
+import com.jobsphere.jobsite.service.notification.NotificationService.JobAlertDelivery;
+import com.jobsphere.jobsite.service.shared.EmailNotificationService;
+import com.jobsphere.jobsite.utils.EmailTemplateBuilder;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTests {
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final JobAlertEmailRepository jobAlertEmailRepository = mock(JobAlertEmailRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationService service = new NotificationService(notificationRepository,
+            jobAlertEmailRepository, userRepository, mock(EmailNotificationService.class),
+            mock(EmailTemplateBuilder.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cutsInstantAlertSubjectsToTheColumnLength() {
+        User user = User.builder().id(UUID.randomUUID()).email("seeker@example.com").build();
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+        String title = "Senior Engineer ".repeat(40).substring(0, JobConstants.TITLE_MAX_LENGTH);
+
+        service.createJobAlertNotifications(List.of(new JobAlertDelivery(user.getId(), title, "Acme")));
+
+        ArgumentCaptor<List<JobAlertEmail>> emails = ArgumentCaptor.forClass(List.class);
+        verify(jobAlertEmailRepository).saveAll(emails.capture());
+        assertEquals(1, emails.getValue().size());
+        String subject = emails.getValue().get(0).getSubject();
+        assertTrue(subject.length() <= JobAlertEmail.SUBJECT_MAX_LENGTH, subject);
+        assertTrue(subject.startsWith("Instant Match: Senior Engineer"), subject);
+        assertTrue(subject.endsWith("..."), subject);
+    }
+}
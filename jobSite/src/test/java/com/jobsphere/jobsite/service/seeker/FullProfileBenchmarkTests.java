@@ -0,0 +1,140 @@
+package com.jobsphere.jobsite.service.seeker;
+
+import com.jobsphere.jobsite.constant.UserType;
+import com.jobsphere.jobsite.dto.seeker.FullProfileResponse;
+import com.jobsphere.jobsite.model.User;
+import com.jobsphere.jobsite.model.seeker.*;
+import com.jobsphere.jobsite.model.shared.Address;
+import com.jobsphere.jobsite.repository.UserRepository;
+import com.jobsphere.jobsite.repository.seeker.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Times the single-query profile read against the per-table reads that
+ * getFullProfileById made before it, on a seeded profile. Needs the application
+ * database, so it runs wherever DB_URL is set; the seed rolls back afterwards.
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class FullProfileBenchmarkTests {
+    private static final Logger log = LoggerFactory.getLogger(FullProfileBenchmarkTests.class);
+    private static final int ROWS_PER_TABLE = 5;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2000;
+
+    @Autowired
+    private SeekerService seekerService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SeekerRepository seekerRepository;
+    @Autowired
+    private SeekerBioRepository seekerBioRepository;
+    @Autowired
+    private SeekerSkillRepository seekerSkillRepository;
+    @Autowired
+    private SeekerProjectRepository seekerProjectRepository;
+    @Autowired
+    private SeekerSectorRepository seekerSectorRepository;
+    @Autowired
+    private SeekerTagRepository seekerTagRepository;
+    @Autowired
+    private SeekerSocialLinkRepository seekerSocialLinkRepository;
+    @Autowired
+    private SeekerCVRepository seekerCVRepository;
+
+    private UUID seekerId;
+
+    @BeforeEach
+    void seedProfile() {
+        User user = userRepository.save(User.builder()
+                .email("benchmark-" + UUID.randomUUID() + "@example.com")
+                .userType(UserType.SEEKER)
+                .build());
+        seekerId = user.getId();
+        Seeker seeker = seekerRepository.save(Seeker.builder()
+                .id(seekerId)
+                .firstName("Bench")
+                .middleName("Mark")
+                .phone("0900000000")
+                .build());
+        seekerBioRepository.save(SeekerBio.builder().seeker(seeker).title("Engineer").bio("Builds things").build());
+        for (int i = 0; i < ROWS_PER_TABLE; i++) {
+            seekerSkillRepository.save(SeekerSkill.builder().seekerId(seekerId).skill("Skill " + i).build());
+            seekerProjectRepository.save(SeekerProject.builder().seekerId(seekerId).title("Project " + i).build());
+            seekerSectorRepository.save(SeekerSector.builder().seekerId(seekerId).sector("Sector " + i).build());
+            seekerTagRepository.save(SeekerTag.builder().seekerId(seekerId).tag("Tag " + i).build());
+            seekerSocialLinkRepository.save(SeekerSocialLink.builder()
+                    .seekerId(seekerId).platform("Site " + i).url("https://example.com/" + i).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void singleQueryProfileAgainstPerTableReads() {
+        FullProfileResponse profile = seekerService.getFullProfileById(seekerId);
+        assertEquals("Engineer", profile.getBio().getTitle());
+        assertEquals(ROWS_PER_TABLE, profile.getSkills().size());
+        assertEquals(ROWS_PER_TABLE, profile.getProjects().size());
+        assertEquals(ROWS_PER_TABLE, profile.getSectors().size());
+        assertEquals(ROWS_PER_TABLE, profile.getTags().size());
+        assertEquals(ROWS_PER_TABLE, profile.getSocialLinks().size());
+        assertEquals(5 * ROWS_PER_TABLE, readPerTable());
+
+        double singleMicros = time(() -> seekerService.getFullProfileById(seekerId));
+        double perTableMicros = time(this::readPerTable);
+        log.info("getFullProfileById: single query {} us/op, per-table reads {} us/op ({}x)",
+                String.format("%.1f", singleMicros), String.format("%.1f", perTableMicros),
+                String.format("%.2f", perTableMicros / singleMicros));
+    }
+
+    // The reads the per-table getFullProfileById made, including the lazy image load per project
+    private int readPerTable() {
+        Seeker seeker = seekerRepository.findById(seekerId).orElseThrow();
+        userRepository.findById(seekerId).orElseThrow();
+        seekerBioRepository.findBySeekerId(seekerId);
+        List<SeekerSkill> skills = seekerSkillRepository.findBySeekerId(seekerId);
+        List<SeekerProject> projects = seekerProjectRepository.findBySeekerId(seekerId);
+        projects.forEach(project -> project.getImages().size());
+        List<SeekerSector> sectors = seekerSectorRepository.findBySeekerId(seekerId);
+        List<SeekerTag> tags = seekerTagRepository.findBySeekerId(seekerId);
+        List<SeekerSocialLink> socialLinks = seekerSocialLinkRepository.findBySeekerId(seekerId);
+        seekerCVRepository.findBySeekerId(seekerId);
+        if (seeker.getAddressId() != null)
+            entityManager.find(Address.class, seeker.getAddressId());
+        return skills.size() + projects.size() + sectors.size() + tags.size() + socialLinks.size();
+    }
+
+    // Clears the persistence context before every call so neither path is served from it
+    private double time(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            entityManager.clear();
+            operation.run();
+        }
+        long elapsed = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            operation.run();
+            elapsed += System.nanoTime() - start;
+        }
+        return elapsed / 1000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,187 @@
+package com.jobsphere.jobsite.utils;
+
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTests {
+    private static final int DIMENSIONS = 16;
+    private static final int M = 8;
+    private static final int EF_CONSTRUCTION = 64;
+
+    private final VectorKernel kernel = new ScalarVectorKernel();
+    private final Random random = new Random(7);
+
+    @Test
+    void findsEachInsertedVectorFirst() {
+        HnswIndex index = newIndex();
+        float[][] vectors = new float[300][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomUnitVector();
+            index.insert(id(i), vectors[i]);
+        }
+
+        assertEquals(vectors.length, index.size());
+        for (int i = 0; i < vectors.length; i++) {
+            assertEquals(id(i), index.search(vectors[i], 1, 32).get(0).id());
+        }
+    }
+
+    @Test
+    void reinsertingTombstonesTheOldNode() {
+        HnswIndex index = newIndex();
+        for (int i = 0; i < 50; i++) {
+            index.insert(id(i), randomUnitVector());
+        }
+        float[] moved = randomUnitVector();
+
+        index.insert(id(3), moved);
+        index.remove(id(4));
+
+        assertEquals(49, index.size());
+        assertEquals(2, index.deletedCount());
+        assertTrue(index.matches(id(3), moved, 0));
+        assertFalse(index.ids().contains(id(4)));
+        List<Match> matches = index.search(moved, 50, 100);
+        assertEquals(id(3), matches.get(0).id());
+        Set<UUID> returned = new HashSet<>();
+        for (Match match : matches) {
+            assertTrue(returned.add(match.id()), "returned twice: " + match.id());
+        }
+        assertFalse(returned.contains(id(4)));
+    }
+
+    @Test
+    void recallMatchesBruteForce() {
+        HnswIndex index = newIndex();
+        VectorMatrix exact = new VectorMatrix(DIMENSIONS, 16);
+        for (int i = 0; i < 2000; i++) {
+            float[] vector = randomUnitVector();
+            index.insert(id(i), vector);
+            exact.put(id(i), vector);
+        }
+
+        int found = 0;
+        int expected = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomUnitVector();
+            Set<UUID> truth = new HashSet<>(exact.topK(query, 10, kernel).stream().map(Match::id).toList());
+            for (Match match : index.search(query, 10, 100)) {
+                if (truth.contains(match.id())) {
+                    found++;
+                }
+            }
+            expected += truth.size();
+        }
+
+        double recall = (double) found / expected;
+        assertTrue(recall >= 0.9, "recall " + recall);
+    }
+
+    @Test
+    void survivesAWriteAndReadRoundTrip() throws IOException {
+        HnswIndex index = newIndex();
+        for (int i = 0; i < 200; i++) {
+            index.insert(id(i), randomUnitVector());
+        }
+        index.remove(id(10));
+        index.insert(id(11), randomUnitVector());
+
+        byte[] bytes = write(index);
+        HnswIndex read = HnswIndex.readFrom(input(bytes), DIMENSIONS, M, EF_CONSTRUCTION, kernel);
+
+        assertEquals(index.size(), read.size());
+        assertEquals(index.deletedCount(), read.deletedCount());
+        assertEquals(new HashSet<>(index.ids()), new HashSet<>(read.ids()));
+        for (int q = 0; q < 20; q++) {
+            float[] query = randomUnitVector();
+            assertEquals(index.search(query, 5, 50), read.search(query, 5, 50));
+        }
+        assertNull(HnswIndex.readFrom(input(bytes), DIMENSIONS, M + 1, EF_CONSTRUCTION, kernel));
+    }
+
+    @Test
+    void rejectsLinksOutsideTheGraph() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x484e5357);
+        out.writeInt(1);
+        out.writeInt(DIMENSIONS);
+        out.writeInt(M);
+        out.writeInt(EF_CONSTRUCTION);
+        out.writeInt(1); // size
+        out.writeInt(0); // entry point
+        out.writeInt(0); // max level
+        out.writeLong(0L);
+        out.writeLong(1L);
+        out.writeBoolean(false);
+        for (float value : randomUnitVector()) {
+            out.writeFloat(value);
+        }
+        out.writeInt(1); // layers
+        out.writeInt(1); // links on layer 0
+        out.writeInt(5); // no such node
+
+        assertThrows(IOException.class,
+                () -> HnswIndex.readFrom(input(bytes.toByteArray()), DIMENSIONS, M, EF_CONSTRUCTION, kernel));
+    }
+
+    @Test
+    void rejectsATruncatedFile() throws IOException {
+        HnswIndex index = newIndex();
+        for (int i = 0; i < 20; i++) {
+            index.insert(id(i), randomUnitVector());
+        }
+        byte[] bytes = write(index);
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThrows(IOException.class,
+                () -> HnswIndex.readFrom(input(truncated), DIMENSIONS, M, EF_CONSTRUCTION, kernel));
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(DIMENSIONS, M, EF_CONSTRUCTION, kernel);
+    }
+
+    private float[] randomUnitVector() {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        VectorMatrix.normalize(vector);
+        return vector;
+    }
+
+    private static byte[] write(HnswIndex index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}
@@ -0,0 +1,100 @@
+package com.jobsphere.jobsite.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexReplayLogTests {
+    private final IndexReplayLog changes = new IndexReplayLog(new ReentrantReadWriteLock());
+    private Map<String, Integer> index = new HashMap<>();
+
+    @Test
+    void updatesBeforeAnyRebuildAreLeftToTheSnapshot() {
+        changes.apply(() -> index.put("early", 1));
+
+        rebuild(() -> Map.of("a", 1));
+
+        assertEquals(Map.of("a", 1), index);
+        assertTrue(changes.isLoaded());
+    }
+
+    @Test
+    void updatesDuringFirstLoadAreOnlyReplayed() {
+        rebuild(() -> {
+            changes.apply(() -> index.put("b", 2));
+            assertTrue(index.isEmpty());
+            return Map.of("a", 1);
+        });
+
+        assertEquals(Map.of("a", 1, "b", 2), index);
+    }
+
+    @Test
+    void updatesDuringReadAreReplayedOntoSnapshot() {
+        rebuild(() -> Map.of("a", 1));
+
+        rebuild(() -> {
+            // Lands while the snapshot is being read, and the snapshot does not have it
+            changes.apply(() -> index.put("b", 2));
+            assertEquals(Map.of("a", 1, "b", 2), index);
+            return Map.of("a", 1);
+        });
+
+        assertEquals(Map.of("a", 1, "b", 2), index);
+    }
+
+    @Test
+    void updatesAfterRebuildAreNotReplayedAgain() {
+        List<String> applied = new ArrayList<>();
+        rebuild(Map::of);
+        changes.apply(() -> applied.add("x"));
+
+        rebuild(Map::of);
+
+        assertEquals(List.of("x"), applied);
+    }
+
+    @Test
+    void failedReadKeepsPreviousIndex() {
+        rebuild(() -> Map.of("a", 1));
+
+        assertThrows(IllegalStateException.class, () -> rebuild(() -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        assertEquals(Map.of("a", 1), index);
+        changes.apply(() -> index.put("b", 2));
+        assertEquals(Map.of("a", 1, "b", 2), index);
+    }
+
+    @Test
+    void ensureLoadedOnlyRebuildsOnce() {
+        int[] reads = new int[1];
+        Supplier<Map<String, Integer>> read = () -> {
+            reads[0]++;
+            return Map.of();
+        };
+
+        changes.ensureLoaded(read, this::install);
+        changes.ensureLoaded(read, this::install);
+
+        assertEquals(1, reads[0]);
+    }
+
+    private void rebuild(Supplier<Map<String, Integer>> read) {
+        changes.rebuild(read, this::install);
+    }
+
+    private void install(Map<String, Integer> snapshot) {
+        index = new HashMap<>(snapshot);
+    }
+}
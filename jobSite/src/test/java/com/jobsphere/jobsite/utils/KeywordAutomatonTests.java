@@ -0,0 +1,65 @@
+package com.jobsphere.jobsite.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordAutomatonTests {
+
+    @Test
+    void findsEveryKeywordIgnoringCase() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(List.of("Java", "spring boot", "SQL"));
+
+        assertEquals(Set.of("java", "spring boot", "sql"),
+                automaton.findAll("Senior JAVA developer", "Spring Boot and PostgreSQL"));
+    }
+
+    @Test
+    void reportsOverlappingAndNestedKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(List.of("he", "she", "his", "hers"));
+
+        assertEquals(Set.of("he", "she", "hers"), automaton.findAll("ushers"));
+    }
+
+    @Test
+    void followsFailureLinksAfterPartialMatch() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(List.of("abcd", "bce"));
+
+        assertEquals(Set.of("bce"), automaton.findAll("abce"));
+    }
+
+    @Test
+    void searchesEveryTextAndSkipsNulls() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(List.of("addis ababa", "remote"));
+
+        assertEquals(Set.of("addis ababa", "remote"), automaton.findAll(null, "Addis Ababa", "Remote"));
+    }
+
+    @Test
+    void collectAddsToExistingSet() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(List.of("c#", "c++"));
+        Set<String> found = new HashSet<>(Set.of("earlier"));
+
+        automaton.collect("C# and C++ engineer", found);
+
+        assertEquals(Set.of("earlier", "c#", "c++"), found);
+    }
+
+    @Test
+    void ignoresBlankAndDuplicateKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.of(java.util.Arrays.asList("Go", "go", "", null));
+
+        assertEquals(Set.of("go"), automaton.findAll("Go developer"));
+    }
+
+    @Test
+    void emptyAutomatonFindsNothing() {
+        assertTrue(KeywordAutomaton.of(List.of()).isEmpty());
+        assertTrue(KeywordAutomaton.empty().findAll("anything at all").isEmpty());
+    }
+}
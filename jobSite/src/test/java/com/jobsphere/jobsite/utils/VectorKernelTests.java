@@ -0,0 +1,58 @@
+package com.jobsphere.jobsite.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorKernelTests {
+    private final VectorKernel scalar = new ScalarVectorKernel();
+
+    @Test
+    void picksTheSimdKernelWhenTheVectorModuleIsPresent() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+
+        assertTrue(VectorKernel.best().name().startsWith("simd-"));
+    }
+
+    @Test
+    void simdKernelMatchesTheScalarKernel() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        VectorKernel simd = VectorKernel.best();
+        Random random = new Random(42);
+
+        // Lengths around the lane counts exercise both the vector loop and the scalar tail
+        for (int length : new int[] { 0, 1, 3, 4, 7, 8, 15, 16, 17, 31, 64, 100 }) {
+            float[] a = randomVector(random, length + 5);
+            float[] b = randomVector(random, length + 9);
+            for (int aOffset = 0; aOffset <= 5; aOffset += 5) {
+                for (int bOffset = 0; bOffset <= 9; bOffset += 3) {
+                    float expected = scalar.dot(a, aOffset, b, bOffset, length);
+                    float actual = simd.dot(a, aOffset, b, bOffset, length);
+                    assertEquals(expected, actual, 1e-4f * Math.max(1, length),
+                            "length " + length + " at offsets " + aOffset + ", " + bOffset);
+                }
+            }
+        }
+    }
+
+    @Test
+    void scalarKernelReadsTheGivenSlices() {
+        float[] a = { 9, 1, 2, 3 };
+        float[] b = { 4, 5, 6, 9, 9 };
+
+        assertEquals(32f, scalar.dot(a, 1, b, 0, 3));
+        assertEquals(0f, scalar.dot(a, 0, b, 0, 0));
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
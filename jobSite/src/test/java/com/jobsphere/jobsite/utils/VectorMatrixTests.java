@@ -0,0 +1,69 @@
+package com.jobsphere.jobsite.utils;
+
+import com.jobsphere.jobsite.utils.VectorMatrix.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorMatrixTests {
+    private final VectorKernel kernel = new ScalarVectorKernel();
+    private final VectorMatrix matrix = new VectorMatrix(2, 1);
+
+    @Test
+    void returnsTheBestPositiveMatchesFirst() {
+        matrix.put(id(1), new float[] { 1, 0 });
+        matrix.put(id(2), new float[] { 0.6f, 0.8f });
+        matrix.put(id(3), new float[] { 0, 1 });
+        matrix.put(id(4), new float[] { -1, 0 });
+
+        assertEquals(List.of(id(1), id(2), id(3)), ids(matrix.topK(new float[] { 1, 0.1f }, 10, kernel)));
+        assertEquals(List.of(id(1), id(2)), ids(matrix.topK(new float[] { 1, 0.1f }, 2, kernel)));
+        assertEquals(List.of(), matrix.topK(new float[] { 1, 0 }, 0, kernel));
+        assertEquals(List.of(), matrix.topK(new float[] { 1, 0, 0 }, 3, kernel));
+    }
+
+    @Test
+    void skipsRemovedRowsAndReusesThem() {
+        matrix.put(id(1), new float[] { 1, 0 });
+        matrix.put(id(2), new float[] { 0, 1 });
+
+        assertTrue(matrix.remove(id(1)));
+        assertFalse(matrix.remove(id(1)));
+        assertNull(matrix.get(id(1)));
+        assertEquals(List.of(id(2)), ids(matrix.topK(new float[] { 1, 1 }, 5, kernel)));
+
+        matrix.put(id(3), new float[] { 1, 0 });
+        assertEquals(2, matrix.size());
+        assertEquals(List.of(id(3), id(2)), ids(matrix.topK(new float[] { 1, 0.5f }, 5, kernel)));
+    }
+
+    @Test
+    void buildsAndNormalizesRowsInPlace() {
+        matrix.add(id(1), 0, 3);
+        matrix.add(id(1), 1, 4);
+        // Growing past the initial capacity keeps existing rows
+        for (int i = 2; i <= 40; i++) {
+            matrix.add(id(i), 1, 1);
+        }
+        matrix.normalizeAll();
+
+        assertArrayEquals(new float[] { 0.6f, 0.8f }, matrix.get(id(1)), 1e-6f);
+        assertArrayEquals(new float[] { 0, 1 }, matrix.get(id(40)), 1e-6f);
+        assertEquals(40, matrix.size());
+    }
+
+    private static List<UUID> ids(List<Match> matches) {
+        return matches.stream().map(Match::id).toList();
+    }
+
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+}